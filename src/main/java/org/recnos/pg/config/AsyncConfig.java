@@ -1,4 +1,38 @@
 package org.recnos.pg.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
 public class AsyncConfig {
-}
\ No newline at end of file
+
+    // Background cache refreshes - small and bounded, a full queue just keeps serving the stale entry
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Password hashing - bcrypt is CPU-bound by design, so it gets a fixed number of threads and a
+    // short queue; PasswordService turns a full queue into a fast 503 instead of a pile-up
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${security.password.hashing-threads:2}") int threads,
+                                                       @Value("${security.password.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
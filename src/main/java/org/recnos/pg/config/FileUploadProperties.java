@@ -20,16 +20,6 @@ public class FileUploadProperties {
     private int maxDimension = 1920;
     private int presignedUrlExpiration = 15; // minutes
 
-    private RateLimit rateLimit = new RateLimit();
-
-    @Getter
-    @Setter
-    public static class RateLimit {
-        private int capacity = 20; // uploads per period
-        private int refillTokens = 20;
-        private int refillPeriod = 1; // hours
-    }
-
     public long getMaxFileSizeBytes() {
         return parseSizeToBytes(maxFileSize);
     }
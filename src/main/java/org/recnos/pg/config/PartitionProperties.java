@@ -0,0 +1,30 @@
+package org.recnos.pg.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Monthly partition maintenance for the append-only analytics tables
+ */
+@Configuration
+@ConfigurationProperties(prefix = "partitioning")
+@Getter
+@Setter
+public class PartitionProperties {
+
+    private int premakeMonths = 3; // future months kept ready beyond the current one
+    private boolean dropExpired = true; // false only detaches expired partitions, leaving them as plain tables
+
+    private Retention retention = new Retention();
+
+    // Months of data kept per table, counting the current month; 0 keeps everything
+    @Getter
+    @Setter
+    public static class Retention {
+        private int pgViews = 13;
+        private int searchQueries = 13;
+        private int userActivityLogs = 24;
+    }
+}
@@ -0,0 +1,49 @@
+package org.recnos.pg.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token bucket policies applied by RateLimitFilter, one per endpoint group
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long localMaxEntries = 100_000; // buckets kept per node when Redis is not used
+    private Duration redisTimeout = Duration.ofMillis(200); // per command; a slower Redis falls back to local buckets
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private long capacity = 60;
+        private long refillTokens = 60;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private List<String> methods = new ArrayList<>(); // empty matches every method
+        private List<String> paths = new ArrayList<>(); // Ant-style patterns
+        private String costPart; // multipart part name counted as one token each; one token per request if unset
+    }
+
+    /**
+     * Longest refill period of any policy; an idle bucket is full again after this long
+     */
+    public Duration getLongestRefillPeriod() {
+        return policies.values().stream()
+                .map(Policy::getRefillPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofHours(1));
+    }
+}
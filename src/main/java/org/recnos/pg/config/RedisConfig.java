@@ -1,4 +1,24 @@
 package org.recnos.pg.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis support beyond Spring Boot's auto-configured connection factory and templates.
+ * Only active with cache.redis.enabled=true; without it every cache stays in-process.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
 public class RedisConfig {
-}
\ No newline at end of file
+
+    // Cache invalidation subscribers register their channels on this container
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -1,4 +1,33 @@
 package org.recnos.pg.constants;
 
+import java.time.Duration;
+import java.util.List;
+
 public class AppConstants {
-}
\ No newline at end of file
+
+    private AppConstants() {
+    }
+
+    // PG listing status
+    public static final String PG_STATUS_DRAFT = "draft";
+    public static final String PG_STATUS_APPROVED = "approved";
+
+    // PG approval status
+    public static final String APPROVAL_STATUS_APPROVED = "approved";
+    public static final String APPROVAL_STATUS_REJECTED = "rejected";
+
+    // Upper bounds of the monthly price ranges shown in the filter sidebar (last range is open-ended)
+    public static final List<Integer> PRICE_RANGE_BOUNDS = List.of(5000, 10000, 15000, 20000);
+
+    // Session user types (sessions.user_type)
+    public static final String SESSION_USER_TYPE_USER = "user";
+    public static final String SESSION_USER_TYPE_OWNER = "owner";
+
+    // OTP login
+    public static final int OTP_LENGTH = 6;
+    public static final Duration OTP_TTL = Duration.ofMinutes(5);
+    public static final int OTP_MAX_ATTEMPTS = 3;
+    public static final Duration OTP_RESEND_COOLDOWN = Duration.ofSeconds(30);
+    public static final int OTP_MAX_SENDS_PER_WINDOW = 5; // per mobile and user type
+    public static final Duration OTP_SEND_WINDOW = Duration.ofHours(1);
+}
@@ -1,4 +1,43 @@
 package org.recnos.pg.constants;
 
+import java.time.Duration;
+
 public class CacheConstants {
-}
\ No newline at end of file
+
+    private CacheConstants() {
+    }
+
+    // Redis key prefixes
+    public static final String PG_DETAIL_KEY_PREFIX = "pg:detail:"; // + pg id -> PgDetailResponse JSON
+    public static final String PG_SLUG_KEY_PREFIX = "pg:slug:"; // + slug -> pg id
+    public static final String RATE_LIMIT_KEY_PREFIX = "rate-limit:"; // + policy:subject -> bucket state
+    public static final String OTP_KEY_PREFIX = "otp:"; // + {userType:mobile} + :code / :cooldown / :sends
+
+    // Pub/sub channel carrying PG ids whose cached detail must be dropped on every node
+    public static final String PG_INVALIDATION_CHANNEL = "pg:cache:invalidate";
+
+    // Pub/sub channel carrying ids of revoked sessions to every node's revocation filter
+    public static final String SESSION_REVOCATION_CHANNEL = "auth:sessions:revoked";
+
+    // Pub/sub channel carrying <userType>:<id> of profiles whose cached view must be dropped on every node
+    public static final String PROFILE_INVALIDATION_CHANNEL = "auth:profiles:invalidate";
+
+    // PG detail cache sizing
+    public static final long PG_DETAIL_LOCAL_MAX_ENTRIES = 10_000;
+    public static final Duration PG_DETAIL_LOCAL_TTL = Duration.ofMinutes(5);
+    public static final Duration PG_DETAIL_REFRESH_AFTER = Duration.ofMinutes(1); // stale-while-revalidate threshold
+    public static final Duration PG_DETAIL_REDIS_TTL = Duration.ofMinutes(30);
+
+    // Session revocation filter sizing; a filter past its expected size only gets more false positives
+    public static final long REVOCATION_FILTER_EXPECTED_SESSIONS = 100_000;
+    public static final double REVOCATION_FILTER_FALSE_POSITIVE_RATE = 0.001;
+    public static final Duration REVOCATION_CONFIRMED_TTL = Duration.ofMinutes(1);
+
+    // Current user/owner profile cache sizing
+    public static final long PROFILE_LOCAL_MAX_ENTRIES = 50_000;
+    public static final Duration PROFILE_LOCAL_TTL = Duration.ofSeconds(30);
+
+    // Verified JWT cache sizing; entries never outlive the token itself
+    public static final long JWT_VERIFIED_MAX_ENTRIES = 50_000;
+    public static final Duration JWT_VERIFIED_MAX_TTL = Duration.ofMinutes(5);
+}
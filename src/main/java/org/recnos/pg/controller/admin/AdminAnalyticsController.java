@@ -1,4 +1,37 @@
 package org.recnos.pg.controller.admin;
 
-public class AdminAnalyticsController  {
-}
\ No newline at end of file
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.response.admin.AdminAnalyticsResponse;
+import org.recnos.pg.service.analytics.AnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("v1/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Analytics", description = "APIs for platform-wide analytics")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminAnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/daily")
+    @Operation(summary = "Daily platform metrics", description = "Registrations, views, visit requests, callbacks, favorites and payments per day, read from incrementally maintained rollups. Defaults to the last 30 days.")
+    public ResponseEntity<AdminAnalyticsResponse> getDailyMetrics(
+            @Parameter(description = "First day (inclusive), ISO date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive), ISO date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        AdminAnalyticsResponse response = analyticsService.getDailyMetrics(from, to);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,4 +1,29 @@
 package org.recnos.pg.controller.admin;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.response.admin.AdminDashboardResponse;
+import org.recnos.pg.service.admin.AdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("v1/admin/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Admin Dashboard", description = "APIs for the admin dashboard")
+@SecurityRequirement(name = "bearerAuth")
 public class AdminDashboardController {
-}
\ No newline at end of file
+
+    private final AdminService adminService;
+
+    @GetMapping
+    @Operation(summary = "Get dashboard metrics", description = "Platform counts and revenue from an in-memory snapshot refreshed every few minutes and adjusted by events in between. refreshedAt and updatedAt tell how fresh the numbers are.")
+    public ResponseEntity<AdminDashboardResponse> getDashboardMetrics() {
+        AdminDashboardResponse response = adminService.getDashboardMetrics();
+        return ResponseEntity.ok(response);
+    }
+}
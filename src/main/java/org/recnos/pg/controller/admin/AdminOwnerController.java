@@ -1,4 +1,35 @@
 package org.recnos.pg.controller.admin;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.request.admin.BlockUserRequest;
+import org.recnos.pg.service.admin.ModerationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("v1/admin/owners")
+@RequiredArgsConstructor
+@Tag(name = "Admin Owner Management", description = "APIs for moderating owner accounts")
+@SecurityRequirement(name = "bearerAuth")
 public class AdminOwnerController {
-}
\ No newline at end of file
+
+    private final ModerationService moderationService;
+
+    @PutMapping("/{owner_id}/block")
+    @Operation(summary = "Block or unblock an owner", description = "Blocking signs the owner out of every session immediately.")
+    public ResponseEntity<Map<String, String>> setBlocked(
+            @Parameter(description = "Owner ID") @PathVariable("owner_id") UUID ownerId,
+            @Valid @RequestBody BlockUserRequest request) {
+
+        moderationService.setOwnerBlocked(ownerId, request);
+        return ResponseEntity.ok(Map.of("message", request.getBlocked() ? "Owner blocked" : "Owner unblocked"));
+    }
+}
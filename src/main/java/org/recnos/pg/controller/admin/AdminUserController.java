@@ -1,4 +1,35 @@
 package org.recnos.pg.controller.admin;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.request.admin.BlockUserRequest;
+import org.recnos.pg.service.admin.ModerationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("v1/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Admin User Management", description = "APIs for moderating user accounts")
+@SecurityRequirement(name = "bearerAuth")
 public class AdminUserController {
-}
\ No newline at end of file
+
+    private final ModerationService moderationService;
+
+    @PutMapping("/{user_id}/block")
+    @Operation(summary = "Block or unblock a user", description = "Blocking signs the user out of every session immediately.")
+    public ResponseEntity<Map<String, String>> setBlocked(
+            @Parameter(description = "User ID") @PathVariable("user_id") UUID userId,
+            @Valid @RequestBody BlockUserRequest request) {
+
+        moderationService.setUserBlocked(userId, request);
+        return ResponseEntity.ok(Map.of("message", request.getBlocked() ? "User blocked" : "User unblocked"));
+    }
+}
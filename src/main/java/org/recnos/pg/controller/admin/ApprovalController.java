@@ -1,4 +1,35 @@
 package org.recnos.pg.controller.admin;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.request.admin.ApprovalRequest;
+import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.service.admin.ApprovalService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("v1/admin/pgs")
+@RequiredArgsConstructor
+@Tag(name = "Admin PG Approval", description = "APIs for reviewing PG listings")
+@SecurityRequirement(name = "bearerAuth")
 public class ApprovalController {
-}
\ No newline at end of file
+
+    private final ApprovalService approvalService;
+
+    @PutMapping("/{pg_id}/approval")
+    @Operation(summary = "Approve or reject a PG", description = "Record the review decision for a PG listing. Approved listings become publicly searchable.")
+    public ResponseEntity<PgListResponse> reviewPg(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Valid @RequestBody ApprovalRequest request) {
+
+        PgListResponse response = approvalService.reviewPg(pgId, request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,4 +1,41 @@
 package org.recnos.pg.controller.auth;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.request.auth.RefreshTokenRequest;
+import org.recnos.pg.model.dto.response.auth.TokenResponse;
+import org.recnos.pg.service.auth.SessionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("v1/auth")
+@RequiredArgsConstructor
+@Tag(name = "Sessions", description = "APIs for refreshing tokens and logging out, shared by users and owners")
 public class AuthController {
-}
\ No newline at end of file
+
+    private final SessionService sessionService;
+
+    /**
+     * POST /v1/auth/refresh - Exchange a refresh token for a new token pair
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh tokens", description = "Rotates the session's tokens. A refresh token can be used once; reusing it ends the session.")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(sessionService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * POST /v1/auth/logout - End the session the refresh token belongs to
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "Log out", description = "Revokes the session; its access and refresh tokens stop working immediately.")
+    public ResponseEntity<Map<String, String>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        sessionService.logout(request.getRefreshToken());
+        return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
+    }
+}
@@ -1,21 +1,17 @@
 package org.recnos.pg.controller.file;
 
-import io.github.bucket4j.Bucket;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.recnos.pg.config.RateLimitConfig;
-import org.recnos.pg.exception.RateLimitExceededException;
 import org.recnos.pg.model.dto.request.file.ImageUploadRequest;
 import org.recnos.pg.model.dto.request.file.PresignedUrlRequest;
 import org.recnos.pg.model.dto.request.file.UploadConfirmRequest;
 import org.recnos.pg.model.dto.response.file.ImageUploadResponse;
 import org.recnos.pg.model.dto.response.file.MultiImageUploadResponse;
 import org.recnos.pg.model.dto.response.file.PresignedUrlResponse;
-import org.recnos.pg.security.SecurityContextHolder;
 import org.recnos.pg.service.storage.FileStorageService;
 import org.recnos.pg.util.FileValidator;
 import org.springframework.http.HttpStatus;
@@ -25,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("v1/upload")
@@ -36,7 +31,6 @@ public class FileUploadController {
 
     private final FileStorageService fileStorageService;
     private final FileValidator fileValidator;
-    private final RateLimitConfig rateLimitConfig;
 
     @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "Upload single image", description = "Upload a single image file directly to the server. The image will be validated, resized if needed, and uploaded to S3.")
@@ -50,9 +44,6 @@ public class FileUploadController {
             @Parameter(description = "Optional description")
             @RequestParam(value = "description", required = false) String description) {
 
-        // Rate limiting
-        checkRateLimit();
-
         // Validate file
         fileValidator.validateImage(file);
 
@@ -79,9 +70,6 @@ public class FileUploadController {
             @Parameter(description = "Context type (pg, profile, document, other)")
             @RequestParam(value = "contextType", required = false, defaultValue = "other") String contextType) {
 
-        // Rate limiting (consumes multiple tokens for batch upload)
-        checkRateLimitBatch(files.length);
-
         // Validate batch
         fileValidator.validateBatch(files);
 
@@ -103,9 +91,6 @@ public class FileUploadController {
     public ResponseEntity<PresignedUrlResponse> generatePresignedUrl(
             @Valid @RequestBody PresignedUrlRequest request) {
 
-        // Rate limiting
-        checkRateLimit();
-
         PresignedUrlResponse response = fileStorageService.generatePresignedUrl(request);
 
         return ResponseEntity.ok(response);
@@ -154,36 +139,4 @@ public class FileUploadController {
 
         return ResponseEntity.ok(Map.of("exists", exists));
     }
-
-    /**
-     * Rate limiting helper - check if user can upload
-     */
-    private void checkRateLimit() {
-        UUID userId = SecurityContextHolder.getCurrentUserId();
-        Bucket bucket = rateLimitConfig.resolveBucket(userId);
-
-        if (!bucket.tryConsume(1)) {
-            long waitTime = bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill();
-            throw new RateLimitExceededException(
-                    "Upload rate limit exceeded. Please try again later.",
-                    waitTime
-            );
-        }
-    }
-
-    /**
-     * Rate limiting for batch uploads - consumes multiple tokens
-     */
-    private void checkRateLimitBatch(int fileCount) {
-        UUID userId = SecurityContextHolder.getCurrentUserId();
-        Bucket bucket = rateLimitConfig.resolveBucket(userId);
-
-        if (!bucket.tryConsume(fileCount)) {
-            long waitTime = bucket.estimateAbilityToConsume(fileCount).getNanosToWaitForRefill();
-            throw new RateLimitExceededException(
-                    String.format("Upload rate limit exceeded. Attempted to upload %d files. Please try again later.", fileCount),
-                    waitTime
-            );
-        }
-    }
 }
@@ -1,4 +1,34 @@
 package org.recnos.pg.controller.owner;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.response.owner.OwnerAnalyticsResponse;
+import org.recnos.pg.security.SecurityContextHolder;
+import org.recnos.pg.service.owner.OwnerAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("v1/owner/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Owner Analytics", description = "APIs for owner listing performance")
+@SecurityRequirement(name = "bearerAuth")
 public class OwnerAnalyticsController {
-}
\ No newline at end of file
+
+    private final OwnerAnalyticsService ownerAnalyticsService;
+
+    @GetMapping
+    @Operation(summary = "Get my listing analytics", description = "Daily views, favorites, contact clicks, visit requests, callbacks and conversions across the current owner's listings, with per-listing totals")
+    public ResponseEntity<OwnerAnalyticsResponse> getMyAnalytics(
+            @Parameter(description = "Number of days up to and including today (max 365)") @RequestParam(defaultValue = "90") int days) {
+
+        OwnerAnalyticsResponse response = ownerAnalyticsService.getAnalytics(SecurityContextHolder.getCurrentUserId(), days);
+        return ResponseEntity.ok(response);
+    }
+}
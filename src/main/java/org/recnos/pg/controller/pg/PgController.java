@@ -4,12 +4,21 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.recnos.pg.model.dto.request.pg.PgCreateRequest;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.model.dto.request.pg.PgImageRequest;
+import org.recnos.pg.model.dto.request.pg.PgRoomRequest;
 import org.recnos.pg.model.dto.request.pg.PgUpdateRequest;
+import org.recnos.pg.model.dto.response.PaginatedResponse;
 import org.recnos.pg.model.dto.response.pg.PgDetailResponse;
+import org.recnos.pg.model.dto.response.pg.PgImageDTO;
 import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.model.dto.response.pg.PgRoomDTO;
+import org.recnos.pg.service.analytics.TrackingService;
+import org.recnos.pg.service.pg.PgRoomService;
 import org.recnos.pg.service.pg.PgService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +28,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -30,6 +41,8 @@ import java.util.UUID;
 public class PgController {
 
     private final PgService pgService;
+    private final PgRoomService pgRoomService;
+    private final TrackingService trackingService;
 
     @PostMapping
     @Operation(summary = "Create a new PG", description = "Create a new Paying Guest accommodation listing")
@@ -47,10 +60,12 @@ public class PgController {
     }
 
     @GetMapping("/slug/{slug}")
-    @Operation(summary = "Get PG by slug", description = "Retrieve detailed information about a PG by its slug. This endpoint also increments the view count.")
+    @Operation(summary = "Get PG by slug", description = "Retrieve detailed information about a PG by its slug. This endpoint also records a page view.")
     public ResponseEntity<PgDetailResponse> getPgBySlug(
-            @Parameter(description = "PG slug") @PathVariable String slug) {
+            @Parameter(description = "PG slug") @PathVariable String slug,
+            HttpServletRequest request) {
         PgDetailResponse response = pgService.getPgBySlug(slug);
+        trackingService.trackPgView(response.getId(), request);
         return ResponseEntity.ok(response);
     }
 
@@ -71,6 +86,67 @@ public class PgController {
         return ResponseEntity.ok(Map.of("message", "PG deleted successfully"));
     }
 
+    @PostMapping("/{pg_id}/contact-click")
+    @Operation(summary = "Record contact click", description = "Record that a visitor tapped the contact button of a PG. Counted towards the owner's analytics.")
+    public ResponseEntity<Map<String, String>> recordContactClick(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId) {
+        pgService.recordContactClick(pgId);
+        return ResponseEntity.ok(Map.of("message", "Contact click recorded"));
+    }
+
+    @GetMapping("/{pg_id}/rooms")
+    @Operation(summary = "Get PG rooms", description = "Retrieve all room types of a PG")
+    public ResponseEntity<List<PgRoomDTO>> getRooms(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId) {
+        return ResponseEntity.ok(pgRoomService.getRooms(pgId));
+    }
+
+    @PostMapping("/{pg_id}/rooms")
+    @Operation(summary = "Add room", description = "Add a room type to an existing PG")
+    public ResponseEntity<PgRoomDTO> addRoom(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Valid @RequestBody PgRoomRequest request) {
+        PgRoomDTO response = pgRoomService.addRoom(pgId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("/{pg_id}/rooms/{room_id}")
+    @Operation(summary = "Update room", description = "Update a room type of a PG")
+    public ResponseEntity<PgRoomDTO> updateRoom(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Parameter(description = "Room ID") @PathVariable("room_id") UUID roomId,
+            @Valid @RequestBody PgRoomRequest request) {
+        PgRoomDTO response = pgRoomService.updateRoom(pgId, roomId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{pg_id}/rooms/{room_id}")
+    @Operation(summary = "Delete room", description = "Remove a room type from a PG")
+    public ResponseEntity<Map<String, String>> deleteRoom(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Parameter(description = "Room ID") @PathVariable("room_id") UUID roomId) {
+        pgRoomService.deleteRoom(pgId, roomId);
+        return ResponseEntity.ok(Map.of("message", "Room deleted successfully"));
+    }
+
+    @PostMapping("/{pg_id}/images")
+    @Operation(summary = "Add image", description = "Attach an uploaded image to a PG. Marking it primary replaces the current primary image.")
+    public ResponseEntity<PgImageDTO> addImage(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Valid @RequestBody PgImageRequest request) {
+        PgImageDTO response = pgService.addImage(pgId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{pg_id}/images/{image_id}")
+    @Operation(summary = "Delete image", description = "Remove an image from a PG")
+    public ResponseEntity<Map<String, String>> deleteImage(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId,
+            @Parameter(description = "Image ID") @PathVariable("image_id") UUID imageId) {
+        pgService.deleteImage(pgId, imageId);
+        return ResponseEntity.ok(Map.of("message", "Image deleted successfully"));
+    }
+
     @GetMapping
     @Operation(summary = "Get all PGs", description = "Retrieve a paginated list of all PG listings")
     public ResponseEntity<Page<PgListResponse>> getAllPgs(
@@ -124,10 +200,21 @@ public class PgController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/search")
-    @Operation(summary = "Search PGs", description = "Search for PG listings by keyword in name, description, city, or address")
-    public ResponseEntity<Page<PgListResponse>> searchPgs(
-            @Parameter(description = "Search query") @RequestParam String query,
+    @GetMapping("/filter")
+    @Operation(summary = "Filter PGs", description = "Filter PG listings by multiple criteria")
+    public ResponseEntity<Page<PgListResponse>> filterPgs(
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "Gender type (Male/Female/Unisex)") @RequestParam(required = false) String genderType,
+            @Parameter(description = "Occupancy type (Sharing/Private/Both)") @RequestParam(required = false) String occupancyType,
+            @Parameter(description = "Furnishing type (Furnished/Semi-furnished/Unfurnished)") @RequestParam(required = false) String furnishingType,
+            @Parameter(description = "Food available") @RequestParam(required = false) Boolean foodAvailable,
+            @Parameter(description = "Food type (Veg/Non-veg/Both)") @RequestParam(required = false) String foodType,
+            @Parameter(description = "Minimum monthly room price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum monthly room price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum available beds in a room") @RequestParam(required = false) Integer minAvailableBeds,
+            @Parameter(description = "Amenity IDs the PG must all offer") @RequestParam(required = false) List<UUID> amenityIds,
+            @Parameter(description = "Status") @RequestParam(required = false) String status,
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -138,32 +225,96 @@ public class PgController {
                 : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<PgListResponse> response = pgService.searchPgs(query, pageable);
+        PgFilterRequest filter = PgFilterRequest.builder()
+                .city(city)
+                .state(state)
+                .genderType(genderType)
+                .occupancyType(occupancyType)
+                .furnishingType(furnishingType)
+                .foodAvailable(foodAvailable)
+                .foodType(foodType)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minAvailableBeds(minAvailableBeds)
+                .amenityIds(amenityIds)
+                .status(status)
+                .build();
+
+        Page<PgListResponse> response = pgService.filterPgs(filter, pageable);
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/filter")
-    @Operation(summary = "Filter PGs", description = "Filter PG listings by multiple criteria")
-    public ResponseEntity<Page<PgListResponse>> filterPgs(
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll all PGs", description = "Cursor-paginated PG listings, newest first. Cost per page is constant regardless of depth; " +
+            "pass nextCursor from the previous response to continue.")
+    public ResponseEntity<PaginatedResponse<PgListResponse>> scrollAllPgs(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count (runs an extra count query)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PaginatedResponse<PgListResponse> response = pgService.scrollAllPgs(cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/owner/{owner_id}/scroll")
+    @Operation(summary = "Scroll PGs by owner", description = "Cursor-paginated PG listings of a specific owner, newest first")
+    public ResponseEntity<PaginatedResponse<PgListResponse>> scrollPgsByOwner(
+            @Parameter(description = "Owner ID") @PathVariable("owner_id") UUID ownerId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count (runs an extra count query)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PaginatedResponse<PgListResponse> response = pgService.scrollPgsByOwner(ownerId, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/city/{city}/scroll")
+    @Operation(summary = "Scroll PGs by city", description = "Cursor-paginated PG listings in a specific city, newest first")
+    public ResponseEntity<PaginatedResponse<PgListResponse>> scrollPgsByCity(
+            @Parameter(description = "City name") @PathVariable String city,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count (runs an extra count query)") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        PaginatedResponse<PgListResponse> response = pgService.scrollPgsByCity(city, cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/filter/scroll")
+    @Operation(summary = "Scroll filtered PGs", description = "Cursor-paginated variant of /filter, newest first")
+    public ResponseEntity<PaginatedResponse<PgListResponse>> scrollFilteredPgs(
             @Parameter(description = "City") @RequestParam(required = false) String city,
             @Parameter(description = "State") @RequestParam(required = false) String state,
             @Parameter(description = "Gender type (Male/Female/Unisex)") @RequestParam(required = false) String genderType,
             @Parameter(description = "Occupancy type (Sharing/Private/Both)") @RequestParam(required = false) String occupancyType,
             @Parameter(description = "Furnishing type (Furnished/Semi-furnished/Unfurnished)") @RequestParam(required = false) String furnishingType,
             @Parameter(description = "Food available") @RequestParam(required = false) Boolean foodAvailable,
+            @Parameter(description = "Food type (Veg/Non-veg/Both)") @RequestParam(required = false) String foodType,
+            @Parameter(description = "Minimum monthly room price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum monthly room price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum available beds in a room") @RequestParam(required = false) Integer minAvailableBeds,
+            @Parameter(description = "Amenity IDs the PG must all offer") @RequestParam(required = false) List<UUID> amenityIds,
             @Parameter(description = "Status") @RequestParam(required = false) String status,
-            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "DESC") String sortDir) {
+            @Parameter(description = "Include total count (runs an extra count query)") @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        Sort sort = sortDir.equalsIgnoreCase("ASC")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        PgFilterRequest filter = PgFilterRequest.builder()
+                .city(city)
+                .state(state)
+                .genderType(genderType)
+                .occupancyType(occupancyType)
+                .furnishingType(furnishingType)
+                .foodAvailable(foodAvailable)
+                .foodType(foodType)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minAvailableBeds(minAvailableBeds)
+                .amenityIds(amenityIds)
+                .status(status)
+                .build();
 
-        Page<PgListResponse> response = pgService.filterPgs(
-                city, state, genderType, occupancyType, furnishingType, foodAvailable, status, pageable);
+        PaginatedResponse<PgListResponse> response = pgService.scrollFilteredPgs(filter, cursor, size, includeTotal);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
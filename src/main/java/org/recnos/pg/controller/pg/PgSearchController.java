@@ -1,4 +1,134 @@
 package org.recnos.pg.controller.pg;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.model.dto.response.pg.AutocompleteSuggestion;
+import org.recnos.pg.model.dto.response.pg.MapMarker;
+import org.recnos.pg.model.dto.response.pg.PgSearchResponse;
+import org.recnos.pg.service.pg.PgSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("v1/pgs")
+@RequiredArgsConstructor
+@Tag(name = "PG Search", description = "APIs for searching Paying Guest accommodations")
+@SecurityRequirement(name = "bearerAuth")
 public class PgSearchController {
-}
\ No newline at end of file
+
+    private final PgSearchService pgSearchService;
+
+    @GetMapping("/search")
+    @Operation(summary = "Search PGs", description = "Full-text search over name, city, address and description, ordered by relevance. " +
+            "Supports web-search syntax (quoted phrases, OR, -exclusion). Pass nextCursor from the previous response to get the next page.")
+    public ResponseEntity<PgSearchResponse> searchPgs(
+            @Parameter(description = "Search query") @RequestParam String query,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        PgSearchResponse response = pgSearchService.search(query, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search/filter")
+    @Operation(summary = "Filter PGs with facet counts", description = "Filtered PG listing, newest first, with per-value counts for gender type, " +
+            "occupancy, furnishing, food type, price range and amenity on the first page. Defaults to approved PGs.")
+    public ResponseEntity<PgSearchResponse> filterWithFacets(
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "Gender type (Male/Female/Unisex)") @RequestParam(required = false) String genderType,
+            @Parameter(description = "Occupancy type (Sharing/Private/Both)") @RequestParam(required = false) String occupancyType,
+            @Parameter(description = "Furnishing type (Furnished/Semi-furnished/Unfurnished)") @RequestParam(required = false) String furnishingType,
+            @Parameter(description = "Food available") @RequestParam(required = false) Boolean foodAvailable,
+            @Parameter(description = "Food type (Veg/Non-veg/Both)") @RequestParam(required = false) String foodType,
+            @Parameter(description = "Minimum monthly room price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum monthly room price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum available beds in a room") @RequestParam(required = false) Integer minAvailableBeds,
+            @Parameter(description = "Amenity IDs the PG must all offer") @RequestParam(required = false) List<UUID> amenityIds,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        PgFilterRequest filter = PgFilterRequest.builder()
+                .city(city)
+                .state(state)
+                .genderType(genderType)
+                .occupancyType(occupancyType)
+                .furnishingType(furnishingType)
+                .foodAvailable(foodAvailable)
+                .foodType(foodType)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minAvailableBeds(minAvailableBeds)
+                .amenityIds(amenityIds)
+                .build();
+
+        PgSearchResponse response = pgSearchService.filterWithFacets(filter, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "PGs near me", description = "Approved PGs within a radius of a point, nearest first, with the basic attribute filters of /filter. " +
+            "Pass nextCursor from the previous response to get the next page.")
+    public ResponseEntity<PgSearchResponse> nearbyPgs(
+            @Parameter(description = "Latitude") @RequestParam double lat,
+            @Parameter(description = "Longitude") @RequestParam double lng,
+            @Parameter(description = "Radius in km (max 50)") @RequestParam(defaultValue = "5") double radiusKm,
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "Gender type (Male/Female/Unisex)") @RequestParam(required = false) String genderType,
+            @Parameter(description = "Occupancy type (Sharing/Private/Both)") @RequestParam(required = false) String occupancyType,
+            @Parameter(description = "Furnishing type (Furnished/Semi-furnished/Unfurnished)") @RequestParam(required = false) String furnishingType,
+            @Parameter(description = "Food available") @RequestParam(required = false) Boolean foodAvailable,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        PgFilterRequest filter = PgFilterRequest.builder()
+                .city(city)
+                .state(state)
+                .genderType(genderType)
+                .occupancyType(occupancyType)
+                .furnishingType(furnishingType)
+                .foodAvailable(foodAvailable)
+                .build();
+
+        PgSearchResponse response = pgSearchService.nearby(lat, lng, radiusKm, filter, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/map")
+    @Operation(summary = "Map markers", description = "Approved PGs inside a map viewport, clustered for the given zoom level. " +
+            "Single-PG markers carry the PG id; cluster markers carry the count and cheapest price.")
+    public ResponseEntity<List<MapMarker>> mapMarkers(
+            @Parameter(description = "South edge latitude") @RequestParam double minLat,
+            @Parameter(description = "West edge longitude") @RequestParam double minLng,
+            @Parameter(description = "North edge latitude") @RequestParam double maxLat,
+            @Parameter(description = "East edge longitude") @RequestParam double maxLng,
+            @Parameter(description = "Map zoom level (0-22)") @RequestParam int zoom,
+            @Parameter(description = "Gender type (Male/Female/Unisex)") @RequestParam(required = false) String genderType) {
+
+        List<MapMarker> markers = pgSearchService.mapMarkers(minLat, minLng, maxLat, maxLng, zoom, genderType);
+        return ResponseEntity.ok(markers);
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete", description = "Suggest cities, localities and PG names for a partially typed query. " +
+            "Matches any word of a term and tolerates a single typo for queries of three or more characters.")
+    public ResponseEntity<List<AutocompleteSuggestion>> autocomplete(
+            @Parameter(description = "Partial query") @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+
+        List<AutocompleteSuggestion> suggestions = pgSearchService.autocomplete(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -1,4 +1,61 @@
 package org.recnos.pg.controller.user;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.service.user.FavoriteService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("v1/user/favorites")
+@RequiredArgsConstructor
+@Tag(name = "Favorites", description = "APIs for the current user's favorite PGs")
+@SecurityRequirement(name = "bearerAuth")
 public class FavoriteController {
-}
\ No newline at end of file
+
+    private final FavoriteService favoriteService;
+
+    @GetMapping
+    @Operation(summary = "Get my favorites", description = "Favorite PGs of the current user, most recently added first")
+    public ResponseEntity<Page<PgListResponse>> getMyFavorites(
+            @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<PgListResponse> response = favoriteService.getMyFavorites(pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{pg_id}")
+    @Operation(summary = "Check favorite", description = "Whether a PG is one of the current user's favorites")
+    public ResponseEntity<Map<String, Boolean>> isFavorite(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId) {
+        return ResponseEntity.ok(Map.of("favorite", favoriteService.isFavorite(pgId)));
+    }
+
+    @PutMapping("/{pg_id}")
+    @Operation(summary = "Add favorite", description = "Add an approved PG to the current user's favorites. Repeating the call has no further effect.")
+    public ResponseEntity<Map<String, String>> addFavorite(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId) {
+        boolean added = favoriteService.addFavorite(pgId);
+        return ResponseEntity.ok(Map.of("message", added ? "PG added to favorites" : "PG is already a favorite"));
+    }
+
+    @DeleteMapping("/{pg_id}")
+    @Operation(summary = "Remove favorite", description = "Remove a PG from the current user's favorites. Repeating the call has no further effect.")
+    public ResponseEntity<Map<String, String>> removeFavorite(
+            @Parameter(description = "PG ID") @PathVariable("pg_id") UUID pgId) {
+        boolean removed = favoriteService.removeFavorite(pgId);
+        return ResponseEntity.ok(Map.of("message", removed ? "PG removed from favorites" : "PG was not a favorite"));
+    }
+}
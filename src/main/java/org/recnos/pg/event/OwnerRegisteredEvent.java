@@ -0,0 +1,13 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class OwnerRegisteredEvent {
+
+    private final UUID ownerId;
+}
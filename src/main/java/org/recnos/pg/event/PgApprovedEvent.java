@@ -1,4 +1,13 @@
 package org.recnos.pg.event;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
 public class PgApprovedEvent {
-}
\ No newline at end of file
+
+    private final UUID pgId;
+}
@@ -0,0 +1,16 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * A lead on a PG turned into a booking, e.g. a callback marked converted
+ */
+@Getter
+@AllArgsConstructor
+public class PgConvertedEvent {
+
+    private final UUID pgId;
+}
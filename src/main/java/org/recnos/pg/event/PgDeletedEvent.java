@@ -0,0 +1,14 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PgDeletedEvent {
+
+    private final UUID pgId;
+    private final String slug;
+}
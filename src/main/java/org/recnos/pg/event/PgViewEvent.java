@@ -0,0 +1,23 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A single PG page view, buffered by TrackingService before it is written to pg_views
+ */
+@Getter
+@AllArgsConstructor
+public class PgViewEvent {
+
+    private final UUID pgId;
+    private final UUID userId;
+    private final String sessionId;
+    private final String referrer;
+    private final String userAgent;
+    private final String ipAddress;
+    private final Instant viewedAt;
+}
@@ -0,0 +1,14 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProfileUpdatedEvent {
+
+    private final String userType; // AppConstants.SESSION_USER_TYPE_*
+    private final UUID id;
+}
@@ -0,0 +1,14 @@
+package org.recnos.pg.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class SessionsRevokedEvent {
+
+    private final List<UUID> sessionIds;
+}
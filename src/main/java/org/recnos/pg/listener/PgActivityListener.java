@@ -0,0 +1,29 @@
+package org.recnos.pg.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.event.PgContactClickedEvent;
+import org.recnos.pg.event.PgConvertedEvent;
+import org.recnos.pg.service.analytics.PgActivityCounter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts owner-facing PG activity for the daily stats. Events published inside a transaction
+ * are counted only once it commits; events published outside one are counted immediately.
+ */
+@Component
+@RequiredArgsConstructor
+public class PgActivityListener {
+
+    private final PgActivityCounter activityCounter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactClicked(PgContactClickedEvent event) {
+        activityCounter.recordContactClick(event.getPgId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConverted(PgConvertedEvent event) {
+        activityCounter.recordConversion(event.getPgId());
+    }
+}
@@ -1,4 +1,78 @@
 package org.recnos.pg.listener;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.event.PgApprovedEvent;
+import org.recnos.pg.event.PgCreatedEvent;
+import org.recnos.pg.event.PgDeletedEvent;
+import org.recnos.pg.event.PgUpdatedEvent;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.service.pg.PgAutocompleteIndex;
+import org.recnos.pg.service.pg.PgDetailCache;
+import org.recnos.pg.service.pg.PgFilterIndex;
+import org.recnos.pg.service.pg.PgGeoIndex;
+import org.recnos.pg.service.pg.PgViewCounter;
+import org.recnos.pg.service.user.FavoriteCounter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Keeps in-memory PG indexes and the detail cache in step with committed listing changes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
 public class PgEventListener {
-}
\ No newline at end of file
+
+    private final PgRepository pgRepository;
+    private final PgAutocompleteIndex autocompleteIndex;
+    private final PgGeoIndex geoIndex;
+    private final PgFilterIndex filterIndex;
+    private final PgDetailCache detailCache;
+    private final PgViewCounter viewCounter;
+    private final FavoriteCounter favoriteCounter;
+
+    @TransactionalEventListener
+    public void onPgCreated(PgCreatedEvent event) {
+        reindex(event.getPgId());
+    }
+
+    @TransactionalEventListener
+    public void onPgUpdated(PgUpdatedEvent event) {
+        reindex(event.getPgId());
+    }
+
+    @TransactionalEventListener
+    public void onPgApproved(PgApprovedEvent event) {
+        reindex(event.getPgId());
+    }
+
+    @TransactionalEventListener
+    public void onPgDeleted(PgDeletedEvent event) {
+        detailCache.evictDeleted(event.getPgId(), event.getSlug());
+        autocompleteIndex.remove(event.getPgId());
+        geoIndex.remove(event.getPgId());
+        filterIndex.remove(event.getPgId());
+        viewCounter.remove(event.getPgId());
+        favoriteCounter.remove(event.getPgId());
+    }
+
+    // Projections read committed column values, including the denormalized listing summary.
+    // The write has already committed, so a failure here must not surface to the caller.
+    private void reindex(UUID pgId) {
+        detailCache.evict(pgId);
+        try {
+            pgRepository.findAutocompleteSourceById(pgId).ifPresentOrElse(
+                    pg -> autocompleteIndex.index(pg.getId(), pg.getName(), pg.getSlug(), pg.getCity(), pg.getLandmark()),
+                    () -> autocompleteIndex.remove(pgId));
+            pgRepository.findGeoSourceById(pgId).ifPresentOrElse(
+                    geoIndex::index,
+                    () -> geoIndex.remove(pgId));
+            filterIndex.refresh(pgId);
+        } catch (Exception e) {
+            log.error("Failed to reindex PG {}", pgId, e);
+        }
+    }
+}
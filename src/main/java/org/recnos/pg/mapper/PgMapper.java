@@ -4,7 +4,6 @@ import org.recnos.pg.model.dto.response.pg.*;
 import org.recnos.pg.model.entity.*;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -90,7 +89,7 @@ public class PgMapper {
                 .build();
     }
 
-    public PgListResponse toListResponse(Pg pg, BigDecimal minPrice, BigDecimal maxPrice, Integer availableBeds, PgImage primaryImage) {
+    public PgListResponse toListResponse(Pg pg) {
         if (pg == null) {
             return null;
         }
@@ -110,11 +109,11 @@ public class PgMapper {
                 .occupancyType(pg.getOccupancyType())
                 .furnishingType(pg.getFurnishingType())
                 // Pricing
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
+                .minPrice(pg.getMinPrice())
+                .maxPrice(pg.getMaxPrice())
                 // Primary Image
-                .primaryImageUrl(primaryImage != null ? primaryImage.getImageUrl() : null)
-                .primaryThumbnailUrl(primaryImage != null ? primaryImage.getThumbnailUrl() : null)
+                .primaryImageUrl(pg.getPrimaryImageUrl())
+                .primaryThumbnailUrl(pg.getPrimaryThumbnailUrl())
                 // Status
                 .status(pg.getStatus())
                 .approvalStatus(pg.getApprovalStatus())
@@ -125,7 +124,7 @@ public class PgMapper {
                 // Quick Info
                 .foodAvailable(pg.getFoodAvailable())
                 .totalRooms(pg.getTotalRooms())
-                .availableBeds(availableBeds)
+                .availableBeds(pg.getAvailableBeds())
                 // Timestamps
                 .createdAt(pg.getCreatedAt())
                 .build();
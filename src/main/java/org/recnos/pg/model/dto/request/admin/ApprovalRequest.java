@@ -1,4 +1,23 @@
 package org.recnos.pg.model.dto.request.admin;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ApprovalRequest {
-}
\ No newline at end of file
+
+    @NotBlank(message = "Decision is required")
+    @Pattern(regexp = "^(approved|rejected)$", message = "Decision must be approved or rejected")
+    private String decision;
+
+    @Size(max = 2000, message = "Notes must not exceed 2000 characters")
+    private String notes;
+}
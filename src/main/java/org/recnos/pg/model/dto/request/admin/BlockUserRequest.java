@@ -1,4 +1,21 @@
 package org.recnos.pg.model.dto.request.admin;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class BlockUserRequest {
-}
\ No newline at end of file
+
+    @NotNull(message = "Blocked flag is required")
+    private Boolean blocked;
+
+    @Size(max = 2000, message = "Reason must not exceed 2000 characters")
+    private String reason;
+}
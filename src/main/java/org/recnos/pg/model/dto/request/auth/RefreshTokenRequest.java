@@ -1,4 +1,17 @@
 package org.recnos.pg.model.dto.request.auth;
 
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class RefreshTokenRequest {
-}
\ No newline at end of file
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
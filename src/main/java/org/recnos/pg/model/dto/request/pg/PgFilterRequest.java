@@ -1,4 +1,41 @@
 package org.recnos.pg.model.dto.request.pg;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PgFilterRequest {
-}
\ No newline at end of file
+
+    // Location
+    private String city;
+    private String state;
+
+    // Accommodation
+    private String genderType;
+    private String occupancyType;
+    private String furnishingType;
+
+    // Food
+    private Boolean foodAvailable;
+    private String foodType; // Veg, Non-veg, Both
+
+    // Rooms - a single room must satisfy all of these
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minAvailableBeds;
+
+    // PG must offer every listed amenity
+    private List<UUID> amenityIds;
+
+    // Status
+    private String status;
+}
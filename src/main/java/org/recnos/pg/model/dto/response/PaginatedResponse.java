@@ -1,4 +1,29 @@
 package org.recnos.pg.model.dto.response;
 
-public class PaginatedResponse {
-}
\ No newline at end of file
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated page of results. Unlike Spring's Page it does not require a count query;
+ * totalElements is only populated when the caller asks for it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginatedResponse<T> {
+
+    private List<T> items;
+
+    // Pass nextCursor back to fetch the following page
+    private String nextCursor;
+    private Boolean hasMore;
+
+    private Long totalElements;
+}
@@ -1,4 +1,29 @@
 package org.recnos.pg.model.dto.response.admin;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AdminAnalyticsResponse {
-}
\ No newline at end of file
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    // Metric name -> total over the range
+    private Map<String, Long> totals;
+
+    // Metric name -> date -> count; days without activity are omitted
+    private Map<String, Map<LocalDate, Long>> daily;
+
+    // Rollups include every source row up to this time
+    private LocalDateTime processedUntil;
+}
@@ -1,4 +1,37 @@
 package org.recnos.pg.model.dto.response.admin;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AdminDashboardResponse {
-}
\ No newline at end of file
+
+    // Users & owners
+    private Long totalUsers;
+    private Long usersToday;
+    private Long totalOwners;
+    private Long verifiedOwners;
+
+    // Listings
+    private Long totalPgs;
+    private Long activePgs;
+    private Long pendingApprovals;
+
+    // Activity & revenue
+    private Long pendingVisits;
+    private BigDecimal revenueCurrentMonth;
+    private BigDecimal revenueLastMonth;
+    private Long activeSubscriptions;
+
+    // Freshness - counts come from the snapshot taken at refreshedAt plus events applied since
+    private Instant refreshedAt;
+    private Instant updatedAt;
+}
@@ -1,4 +1,34 @@
 package org.recnos.pg.model.dto.response.owner;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OwnerAnalyticsResponse {
-}
\ No newline at end of file
+
+    private UUID ownerId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    // Across all listings for the whole range
+    private PgActivityStats totals;
+
+    // One entry per day in the range, zero-filled for trend charts
+    private List<PgActivityStats> daily;
+
+    // One entry per listing with activity in the range, most viewed first
+    private List<PgActivityStats> listings;
+
+    // Row-derived counts (views, favorites, visit requests, callbacks) include activity up to this time
+    private LocalDateTime processedUntil;
+}
@@ -0,0 +1,41 @@
+package org.recnos.pg.model.dto.response.owner;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Activity counts for one day, one listing or a whole range; only the matching key is set
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PgActivityStats {
+
+    private LocalDate date;
+    private UUID pgId;
+    private String pgName;
+
+    private long views;
+    private long favorites;
+    private long contactClicks;
+    private long visitRequests;
+    private long callbacks;
+    private long conversions;
+
+    public void add(PgActivityStats other) {
+        views += other.views;
+        favorites += other.favorites;
+        contactClicks += other.contactClicks;
+        visitRequests += other.visitRequests;
+        callbacks += other.callbacks;
+        conversions += other.conversions;
+    }
+}
@@ -0,0 +1,22 @@
+package org.recnos.pg.model.dto.response.pg;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+
+    private String text;
+    private String type; // city, locality, pg
+
+    // Only set for PG name suggestions
+    private UUID pgId;
+    private String slug;
+}
@@ -0,0 +1,28 @@
+package org.recnos.pg.model.dto.response.pg;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapMarker {
+
+    // Marker position - centroid of the clustered PGs
+    private Double latitude;
+    private Double longitude;
+    private Integer count;
+
+    // Cheapest listing in the cluster
+    private BigDecimal minPrice;
+
+    // Only set when the marker is a single PG
+    private UUID pgId;
+    private String genderType;
+}
@@ -25,6 +25,7 @@ public class PgListResponse {
     private String city;
     private String state;
     private String landmark;
+    private Double distanceKm; // Only set for radius search
 
     // Accommodation
     private String genderType;
@@ -1,4 +1,26 @@
 package org.recnos.pg.model.dto.response.pg;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PgSearchResponse {
-}
\ No newline at end of file
+
+    private List<PgListResponse> results;
+
+    // Keyset pagination - pass nextCursor back to fetch the following page
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Filter sidebar counts (facet -> value -> PG count), first page only
+    private Map<String, Map<String, Long>> facets;
+    private Long totalResults;
+}
@@ -178,15 +178,15 @@ public class Pg {
     private List<String> featuredLocations;
 
     @ColumnDefault("0")
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false) // Only the batched view counter flush writes this
     private Integer viewCount;
 
     @ColumnDefault("0")
-    @Column(name = "favorite_count")
+    @Column(name = "favorite_count", updatable = false) // Only the batched favorite delta flush and reconciliation write this
     private Integer favoriteCount;
 
     @ColumnDefault("0")
-    @Column(name = "contact_click_count")
+    @Column(name = "contact_click_count", updatable = false) // Only the batched activity flush writes this
     private Integer contactClickCount;
 
     @ColumnDefault("0")
@@ -197,6 +197,22 @@ public class Pg {
     @Column(name = "share_count")
     private Integer shareCount;
 
+    // Listing summary - maintained by PgRepository.refreshListingSummary on room/image writes
+    @Column(name = "min_price", precision = 10, scale = 2, insertable = false, updatable = false)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 10, scale = 2, insertable = false, updatable = false)
+    private BigDecimal maxPrice;
+
+    @Column(name = "available_beds", insertable = false, updatable = false)
+    private Integer availableBeds;
+
+    @Column(name = "primary_image_url", length = 500, insertable = false, updatable = false)
+    private String primaryImageUrl;
+
+    @Column(name = "primary_thumbnail_url", length = 500, insertable = false, updatable = false)
+    private String primaryThumbnailUrl;
+
     @Column(name = "meta_title")
     private String metaTitle;
 
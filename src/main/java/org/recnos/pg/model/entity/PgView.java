@@ -41,8 +41,15 @@ public class PgView {
     @Column(name = "session_id")
     private String sessionId;
 
+    // Partition key - every row needs it to be routed to its monthly partition
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "viewed_at")
+    @Column(name = "viewed_at", nullable = false)
     private Instant viewedAt;
 
-}
\ No newline at end of file
+    @PrePersist
+    protected void onCreate() {
+        if (viewedAt == null) {
+            viewedAt = Instant.now();
+        }
+    }
+}
@@ -54,8 +54,15 @@ public class SearchQuery {
     @Column(name = "ip_address", length = 50)
     private String ipAddress;
 
+    // Partition key - every row needs it to be routed to its monthly partition
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-}
\ No newline at end of file
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+}
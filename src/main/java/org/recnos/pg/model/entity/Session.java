@@ -16,7 +16,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "sessions", schema = "public", indexes = {
         @Index(name = "idx_sessions_user", columnList = "user_id, user_type"),
-        @Index(name = "idx_sessions_token", columnList = "token")
+        @Index(name = "idx_sessions_token", columnList = "token"),
+        @Index(name = "idx_sessions_owner", columnList = "owner_id, user_type"),
+        @Index(name = "idx_sessions_expires", columnList = "expires_at")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "sessions_token_key", columnNames = {"token"}),
         @UniqueConstraint(name = "sessions_refresh_token_key", columnNames = {"refresh_token"})
@@ -62,4 +64,10 @@ public class Session {
     @Column(name = "created_at")
     private Instant createdAt;
 
+    @Column(name = "refreshed_at")
+    private Instant refreshedAt;
+
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
 }
\ No newline at end of file
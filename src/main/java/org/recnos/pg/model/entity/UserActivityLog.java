@@ -55,8 +55,15 @@ public class UserActivityLog {
     @Column(name = "user_agent", length = Integer.MAX_VALUE)
     private String userAgent;
 
+    // Partition key - every row needs it to be routed to its monthly partition
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-}
\ No newline at end of file
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+}
@@ -1,4 +1,14 @@
 package org.recnos.pg.repository;
 
-public class AdminRepository {
-}
\ No newline at end of file
+import org.recnos.pg.model.entity.Admin;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AdminRepository extends JpaRepository<Admin, UUID> {
+
+    Optional<Admin> findByEmail(String email);
+}
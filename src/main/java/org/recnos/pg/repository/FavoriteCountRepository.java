@@ -0,0 +1,27 @@
+package org.recnos.pg.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batched maintenance of the denormalized pgs.favorite_count
+ */
+public interface FavoriteCountRepository {
+
+    /**
+     * Add the signed deltas to pgs.favorite_count in one statement. Must run inside a transaction.
+     *
+     * @return number of PGs updated
+     */
+    int applyFavoriteDeltas(Map<UUID, Long> deltas);
+
+    /**
+     * Recount favorites and overwrite every PG whose stored count differs, except the excluded
+     * PGs, whose deltas have not been applied yet. Must run inside a transaction.
+     *
+     * @return ids of the PGs that were corrected
+     */
+    List<UUID> reconcileFavoriteCounts(Collection<UUID> excluded);
+}
@@ -0,0 +1,58 @@
+package org.recnos.pg.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class FavoriteCountRepositoryImpl implements FavoriteCountRepository {
+
+    private static final String RECONCILE_SQL = "UPDATE pgs p SET favorite_count = c.favorites FROM ("
+            + "SELECT p2.id, count(f.id) AS favorites FROM pgs p2 LEFT JOIN favorites f ON f.pg_id = p2.id GROUP BY p2.id"
+            + ") AS c WHERE p.id = c.id AND p.favorite_count IS DISTINCT FROM c.favorites";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyFavoriteDeltas(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE pgs p SET favorite_count = ... FROM (VALUES (...), ...) AS v (pg_id, delta) WHERE p.id = v.pg_id
+        StringBuilder sql = new StringBuilder("UPDATE pgs p SET favorite_count = GREATEST(COALESCE(p.favorite_count, 0) + v.delta, 0) FROM (VALUES ");
+        for (int i = 0; i < deltas.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(:pg").append(i).append(" AS uuid), CAST(:delta").append(i).append(" AS integer))");
+        }
+        sql.append(") AS v (pg_id, delta) WHERE p.id = v.pg_id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int index = 0;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            query.setParameter("pg" + index, entry.getKey());
+            query.setParameter("delta" + index, entry.getValue());
+            index++;
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public List<UUID> reconcileFavoriteCounts(Collection<UUID> excluded) {
+        String sql = RECONCILE_SQL + (excluded.isEmpty() ? "" : " AND p.id NOT IN (:excluded)") + " RETURNING p.id";
+        return namedParameterJdbcTemplate.queryForList(sql, new MapSqlParameterSource("excluded", excluded), UUID.class);
+    }
+}
@@ -1,4 +1,43 @@
 package org.recnos.pg.repository;
 
-public class FavoriteRepository {
-}
\ No newline at end of file
+import org.recnos.pg.model.entity.Favorite;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface FavoriteRepository extends JpaRepository<Favorite, UUID>, FavoriteCountRepository {
+
+    /**
+     * Favorite an approved PG; repeating it is a no-op. Must run inside a transaction.
+     *
+     * @return 1 if the favorite was added, 0 if it already existed or the user or PG does not qualify
+     */
+    @Modifying
+    @Query(value = "INSERT INTO favorites (user_id, pg_id) " +
+            "SELECT u.id, p.id FROM users u CROSS JOIN pgs p " +
+            "WHERE u.id = :userId AND p.id = :pgId AND p.status = 'approved' " +
+            "ON CONFLICT (user_id, pg_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("pgId") UUID pgId);
+
+    /**
+     * Must run inside a transaction.
+     *
+     * @return 1 if the favorite was removed, 0 if there was none
+     */
+    @Modifying
+    @Query(value = "DELETE FROM favorites WHERE user_id = :userId AND pg_id = :pgId", nativeQuery = true)
+    int deleteByUserIdAndPgId(@Param("userId") UUID userId, @Param("pgId") UUID pgId);
+
+    boolean existsByUserIdAndPgId(UUID userId, UUID pgId);
+
+    @EntityGraph(attributePaths = "pg")
+    Page<Favorite> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+}
@@ -14,6 +14,8 @@ public interface OtpRepository extends JpaRepository<Otp, UUID> {
     Optional<Otp> findByMobileAndUserTypeAndIsVerifiedFalseAndExpiresAtAfter(
             String mobile, String userType, LocalDateTime currentTime);
 
+    Optional<Otp> findFirstByMobileAndUserTypeOrderByCreatedAtDesc(String mobile, String userType);
+
     void deleteByMobileAndUserType(String mobile, String userType);
 
     void deleteByExpiresAtBefore(LocalDateTime currentTime);
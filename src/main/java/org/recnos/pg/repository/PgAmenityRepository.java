@@ -3,6 +3,8 @@ package org.recnos.pg.repository;
 import org.recnos.pg.model.entity.PgAmenity;
 import org.recnos.pg.model.entity.PgAmenityId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +18,17 @@ public interface PgAmenityRepository extends JpaRepository<PgAmenity, PgAmenityI
     void deleteByPgId(UUID pgId);
 
     void deleteByPgIdAndAmenityId(UUID pgId, UUID amenityId);
-}
\ No newline at end of file
+
+    // Filter index source - (pg, amenity) pairs without loading the entities
+    @Query("SELECT pa.pg.id AS pgId, pa.amenity.id AS amenityId FROM PgAmenity pa")
+    List<AmenityLink> findAllAmenityLinks();
+
+    @Query("SELECT pa.amenity.id FROM PgAmenity pa WHERE pa.pg.id = :pgId")
+    List<UUID> findAmenityIdsByPgId(@Param("pgId") UUID pgId);
+
+    interface AmenityLink {
+        UUID getPgId();
+
+        UUID getAmenityId();
+    }
+}
@@ -0,0 +1,25 @@
+package org.recnos.pg.repository;
+
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+
+import java.util.Map;
+
+/**
+ * Facet counts for the filter sidebar, computed in a single GROUPING SETS query
+ */
+public interface PgFacetRepository {
+
+    String FACET_GENDER_TYPE = "genderType";
+    String FACET_OCCUPANCY_TYPE = "occupancyType";
+    String FACET_FURNISHING_TYPE = "furnishingType";
+    String FACET_FOOD_TYPE = "foodType";
+    String FACET_PRICE_RANGE = "priceRange";
+    String FACET_AMENITY = "amenity";
+    String FACET_TOTAL = "total";
+
+    /**
+     * Count of matching PGs per facet value, keyed by facet name then value.
+     * The {@link #FACET_TOTAL} facet holds the overall match count under the same key.
+     */
+    Map<String, Map<String, Long>> countFacets(PgFilterRequest filter);
+}
@@ -0,0 +1,117 @@
+package org.recnos.pg.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+
+import java.util.*;
+
+public class PgFacetRepositoryImpl implements PgFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Map<String, Long>> countFacets(PgFilterRequest filter) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder()
+                .append("WITH filtered AS (SELECT p.id, p.gender_type, p.occupancy_type, p.furnishing_type, p.food_type, ")
+                .append(priceBucketExpression()).append(" AS price_bucket ")
+                .append("FROM pgs p WHERE p.is_deleted = FALSE");
+        appendFilters(sql, params, filter);
+        sql.append(") ")
+                .append("SELECT CASE ")
+                .append("WHEN GROUPING(f.gender_type) = 0 THEN '").append(FACET_GENDER_TYPE).append("' ")
+                .append("WHEN GROUPING(f.occupancy_type) = 0 THEN '").append(FACET_OCCUPANCY_TYPE).append("' ")
+                .append("WHEN GROUPING(f.furnishing_type) = 0 THEN '").append(FACET_FURNISHING_TYPE).append("' ")
+                .append("WHEN GROUPING(f.food_type) = 0 THEN '").append(FACET_FOOD_TYPE).append("' ")
+                .append("WHEN GROUPING(f.price_bucket) = 0 THEN '").append(FACET_PRICE_RANGE).append("' ")
+                .append("WHEN GROUPING(pa.amenity_id) = 0 THEN '").append(FACET_AMENITY).append("' ")
+                .append("ELSE '").append(FACET_TOTAL).append("' END AS facet, ")
+                .append("COALESCE(f.gender_type, f.occupancy_type, f.furnishing_type, f.food_type, f.price_bucket, ")
+                .append("CAST(pa.amenity_id AS varchar), '").append(FACET_TOTAL).append("') AS value, ")
+                // The amenity join fans out rows, so count PGs rather than rows
+                .append("COUNT(DISTINCT f.id) AS facet_count ")
+                .append("FROM filtered f LEFT JOIN pg_amenities pa ON pa.pg_id = f.id ")
+                .append("GROUP BY GROUPING SETS ((f.gender_type), (f.occupancy_type), (f.furnishing_type), ")
+                .append("(f.food_type), (f.price_bucket), (pa.amenity_id), ())");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (String facet : List.of(FACET_GENDER_TYPE, FACET_OCCUPANCY_TYPE, FACET_FURNISHING_TYPE,
+                FACET_FOOD_TYPE, FACET_PRICE_RANGE, FACET_AMENITY, FACET_TOTAL)) {
+            facets.put(facet, new LinkedHashMap<>());
+        }
+
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            String facet = (String) row[0];
+            String value = (String) row[1];
+            // Rows for PGs with no value for the grouped column (e.g. no amenities) are dropped
+            if (value == null || (value.equals(FACET_TOTAL) && !facet.equals(FACET_TOTAL))) {
+                continue;
+            }
+            facets.get(facet).put(value, ((Number) row[2]).longValue());
+        }
+        return facets;
+    }
+
+    // Same predicates as PgSpecification.matches, emitted only when present
+    private void appendFilters(StringBuilder sql, Map<String, Object> params, PgFilterRequest filter) {
+        appendEquals(sql, params, "p.city", "city", filter.getCity());
+        appendEquals(sql, params, "p.state", "state", filter.getState());
+        appendEquals(sql, params, "p.gender_type", "genderType", filter.getGenderType());
+        appendEquals(sql, params, "p.occupancy_type", "occupancyType", filter.getOccupancyType());
+        appendEquals(sql, params, "p.furnishing_type", "furnishingType", filter.getFurnishingType());
+        appendEquals(sql, params, "p.food_available", "foodAvailable", filter.getFoodAvailable());
+        appendEquals(sql, params, "p.food_type", "foodType", filter.getFoodType());
+        appendEquals(sql, params, "p.status", "status", filter.getStatus());
+
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null || filter.getMinAvailableBeds() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM pg_rooms r WHERE r.pg_id = p.id");
+            if (filter.getMinPrice() != null) {
+                sql.append(" AND r.price_per_month >= :minPrice");
+                params.put("minPrice", filter.getMinPrice());
+            }
+            if (filter.getMaxPrice() != null) {
+                sql.append(" AND r.price_per_month <= :maxPrice");
+                params.put("maxPrice", filter.getMaxPrice());
+            }
+            if (filter.getMinAvailableBeds() != null) {
+                sql.append(" AND r.available_beds >= :minAvailableBeds");
+                params.put("minAvailableBeds", filter.getMinAvailableBeds());
+            }
+            sql.append(")");
+        }
+
+        if (filter.getAmenityIds() != null && !filter.getAmenityIds().isEmpty()) {
+            Set<UUID> amenityIds = new HashSet<>(filter.getAmenityIds());
+            sql.append(" AND (SELECT COUNT(*) FROM pg_amenities fa WHERE fa.pg_id = p.id AND fa.amenity_id IN (:amenityIds)) = :amenityCount");
+            params.put("amenityIds", amenityIds);
+            params.put("amenityCount", (long) amenityIds.size());
+        }
+    }
+
+    private void appendEquals(StringBuilder sql, Map<String, Object> params, String column, String param, Object value) {
+        if (value == null || (value instanceof String text && text.isBlank())) {
+            return;
+        }
+        sql.append(" AND ").append(column).append(" = :").append(param);
+        params.put(param, value);
+    }
+
+    // Price range of the denormalized pgs.min_price: CASE WHEN p.min_price < 5000 THEN '0-5000' ... ELSE '20000+' END
+    private String priceBucketExpression() {
+        StringBuilder expression = new StringBuilder("CASE WHEN p.min_price IS NULL THEN NULL");
+        int lower = 0;
+        for (int upper : AppConstants.PRICE_RANGE_BOUNDS) {
+            expression.append(" WHEN p.min_price < ").append(upper).append(" THEN '").append(lower).append('-').append(upper).append('\'');
+            lower = upper;
+        }
+        return expression.append(" ELSE '").append(lower).append("+' END").toString();
+    }
+}
@@ -2,6 +2,9 @@ package org.recnos.pg.repository;
 
 import org.recnos.pg.model.entity.PgImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +21,10 @@ public interface PgImageRepository extends JpaRepository<PgImage, UUID> {
     void deleteByPgId(UUID pgId);
 
     void deleteByPgIdAndId(UUID pgId, UUID imageId);
+
+    Optional<PgImage> findByIdAndPgId(UUID id, UUID pgId);
+
+    @Modifying
+    @Query("UPDATE PgImage i SET i.isPrimary = false WHERE i.pg.id = :pgId AND i.isPrimary = true")
+    void clearPrimaryByPgId(@Param("pgId") UUID pgId);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package org.recnos.pg.repository;
+
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Radius search over approved PGs using the GIST index on pgs.location
+ */
+public interface PgNearbyRepository {
+
+    /**
+     * Approved PGs within radiusMeters of the point, nearest first. Only the basic attribute
+     * filters are applied; the status on the filter is ignored. Pass the distance and id of the
+     * last hit of the previous page to continue after it, or nulls for the first page.
+     */
+    List<NearbyHit> findNearby(double lat, double lng, double radiusMeters, PgFilterRequest filter,
+                               Double afterDistance, UUID afterId, int limit);
+
+    /**
+     * Radius search hit: PG id with its distance from the origin in meters
+     */
+    record NearbyHit(UUID id, double distance) {
+    }
+}
@@ -0,0 +1,62 @@
+package org.recnos.pg.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+
+import java.util.*;
+
+public class PgNearbyRepositoryImpl implements PgNearbyRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NearbyHit> findNearby(double lat, double lng, double radiusMeters, PgFilterRequest filter,
+                                      Double afterDistance, UUID afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT p.id, ST_Distance(p.location, origin.point) AS distance ")
+                .append("FROM pgs p CROSS JOIN (SELECT CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS point) AS origin ")
+                .append("WHERE p.is_deleted = FALSE AND p.status = 'approved' AND p.location IS NOT NULL ")
+                .append("AND ST_DWithin(p.location, origin.point, :radiusMeters)");
+        params.put("lat", lat);
+        params.put("lng", lng);
+        params.put("radiusMeters", radiusMeters);
+
+        // Only the filters present are emitted, so each combination gets its own plan
+        appendEquals(sql, params, "p.city", "city", filter.getCity());
+        appendEquals(sql, params, "p.state", "state", filter.getState());
+        appendEquals(sql, params, "p.gender_type", "genderType", filter.getGenderType());
+        appendEquals(sql, params, "p.occupancy_type", "occupancyType", filter.getOccupancyType());
+        appendEquals(sql, params, "p.furnishing_type", "furnishingType", filter.getFurnishingType());
+        appendEquals(sql, params, "p.food_available", "foodAvailable", filter.getFoodAvailable());
+
+        if (afterDistance != null && afterId != null) {
+            sql.append(" AND (ST_Distance(p.location, origin.point), p.id) > (:afterDistance, :afterId)");
+            params.put("afterDistance", afterDistance);
+            params.put("afterId", afterId);
+        }
+        sql.append(" ORDER BY distance, p.id LIMIT :limit");
+        params.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        List<NearbyHit> hits = new ArrayList<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            hits.add(new NearbyHit((UUID) row[0], ((Number) row[1]).doubleValue()));
+        }
+        return hits;
+    }
+
+    private void appendEquals(StringBuilder sql, Map<String, Object> params, String column, String param, Object value) {
+        if (value == null || (value instanceof String text && text.isBlank())) {
+            return;
+        }
+        sql.append(" AND ").append(column).append(" = :").append(param);
+        params.put(param, value);
+    }
+}
@@ -1,30 +1,50 @@
 package org.recnos.pg.repository;
 
 import org.recnos.pg.model.entity.Pg;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PgRepository extends JpaRepository<Pg, UUID> {
+public interface PgRepository extends JpaRepository<Pg, UUID>, JpaSpecificationExecutor<Pg>, PgFacetRepository,
+        PgNearbyRepository {
 
     Optional<Pg> findBySlug(String slug);
 
     boolean existsBySlug(String slug);
 
+    @Query("SELECT p.id FROM Pg p WHERE p.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
     List<Pg> findByOwnerId(UUID ownerId);
 
     Page<Pg> findByOwnerId(UUID ownerId, Pageable pageable);
 
     Page<Pg> findByCity(String city, Pageable pageable);
 
+    // Keyset scrolling - no count query; totals are fetched separately only when requested
+    Window<Pg> findByIsDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Pg> findByOwnerIdAndIsDeletedFalse(UUID ownerId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Pg> findByCityAndIsDeletedFalse(String city, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByIsDeletedFalse();
+
+    long countByOwnerIdAndIsDeletedFalse(UUID ownerId);
+
+    long countByCityAndIsDeletedFalse(String city);
+
     Page<Pg> findByCityAndStatus(String city, String status, Pageable pageable);
 
     Page<Pg> findByStatus(String status, Pageable pageable);
@@ -38,35 +58,151 @@ public interface PgRepository extends JpaRepository<Pg, UUID> {
     @Query("SELECT p FROM Pg p WHERE p.city = :city AND p.genderType = :genderType AND p.status = 'approved'")
     Page<Pg> findByCityAndGenderType(@Param("city") String city, @Param("genderType") String genderType, Pageable pageable);
 
-    @Query("SELECT p FROM Pg p WHERE " +
-           "(:city IS NULL OR p.city = :city) AND " +
-           "(:state IS NULL OR p.state = :state) AND " +
-           "(:genderType IS NULL OR p.genderType = :genderType) AND " +
-           "(:occupancyType IS NULL OR p.occupancyType = :occupancyType) AND " +
-           "(:furnishingType IS NULL OR p.furnishingType = :furnishingType) AND " +
-           "(:foodAvailable IS NULL OR p.foodAvailable = :foodAvailable) AND " +
-           "(:status IS NULL OR p.status = :status)")
-    Page<Pg> findByFilters(
-            @Param("city") String city,
-            @Param("state") String state,
-            @Param("genderType") String genderType,
-            @Param("occupancyType") String occupancyType,
-            @Param("furnishingType") String furnishingType,
-            @Param("foodAvailable") Boolean foodAvailable,
-            @Param("status") String status,
-            Pageable pageable
+    @Query(value = "SELECT p.id AS id, ts_rank(p.search_vector, tsq) AS rank " +
+            "FROM pgs p, websearch_to_tsquery('english', :query) AS tsq " +
+            "WHERE p.search_vector @@ tsq AND p.is_deleted = FALSE AND p.status = 'approved' " +
+            "ORDER BY rank DESC, p.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchByText(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT p.id AS id, ts_rank(p.search_vector, tsq) AS rank " +
+            "FROM pgs p, websearch_to_tsquery('english', :query) AS tsq " +
+            "WHERE p.search_vector @@ tsq AND p.is_deleted = FALSE AND p.status = 'approved' " +
+            "AND (ts_rank(p.search_vector, tsq), p.id) < (CAST(:afterRank AS real), CAST(:afterId AS uuid)) " +
+            "ORDER BY rank DESC, p.id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> searchByTextAfter(
+            @Param("query") String query,
+            @Param("afterRank") float afterRank,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
     );
 
-    @Query("SELECT p FROM Pg p WHERE " +
-           "LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(p.city) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(p.address) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Pg> searchPgs(@Param("query") String query, Pageable pageable);
-
     @Query("SELECT COUNT(p) FROM Pg p WHERE p.owner.id = :ownerId")
     Long countByOwnerId(@Param("ownerId") UUID ownerId);
 
     @Query("SELECT COUNT(p) FROM Pg p WHERE p.city = :city AND p.status = 'approved'")
     Long countByCityAndApproved(@Param("city") String city);
-}
\ No newline at end of file
+
+    /**
+     * Recompute the denormalized listing summary (price range, available beds, primary image)
+     * from pg_rooms and pg_images. Must be called after any room or image write.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE pgs p SET " +
+            "min_price = (SELECT MIN(r.price_per_month) FROM pg_rooms r WHERE r.pg_id = p.id), " +
+            "max_price = (SELECT MAX(r.price_per_month) FROM pg_rooms r WHERE r.pg_id = p.id), " +
+            "available_beds = (SELECT SUM(r.available_beds) FROM pg_rooms r WHERE r.pg_id = p.id), " +
+            "primary_image_url = (SELECT i.image_url FROM pg_images i WHERE i.pg_id = p.id AND i.is_primary = TRUE " +
+            "ORDER BY i.display_order, i.uploaded_at LIMIT 1), " +
+            "primary_thumbnail_url = (SELECT i.thumbnail_url FROM pg_images i WHERE i.pg_id = p.id AND i.is_primary = TRUE " +
+            "ORDER BY i.display_order, i.uploaded_at LIMIT 1) " +
+            "WHERE p.id = :pgId", nativeQuery = true)
+    void refreshListingSummary(@Param("pgId") UUID pgId);
+
+    /**
+     * Sync the PostGIS location column from latitude/longitude
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE pgs SET location = CASE WHEN latitude IS NULL OR longitude IS NULL THEN NULL " +
+            "ELSE CAST(ST_SetSRID(ST_MakePoint(longitude, latitude), 4326) AS geography) END " +
+            "WHERE id = :pgId", nativeQuery = true)
+    void syncLocation(@Param("pgId") UUID pgId);
+
+    // Autocomplete index source - approved PGs only, and only the columns the trie needs
+    @Query("SELECT p.id AS id, p.name AS name, p.slug AS slug, p.city AS city, p.landmark AS landmark " +
+            "FROM Pg p WHERE p.isDeleted = false AND p.status = 'approved'")
+    List<AutocompleteSource> findAutocompleteSources();
+
+    @Query("SELECT p.id AS id, p.name AS name, p.slug AS slug, p.city AS city, p.landmark AS landmark " +
+            "FROM Pg p WHERE p.id = :id AND p.isDeleted = false AND p.status = 'approved'")
+    Optional<AutocompleteSource> findAutocompleteSourceById(@Param("id") UUID id);
+
+    // Filter index source - approved PGs only
+    @Query("SELECT p.id AS id, p.city AS city, p.state AS state, p.genderType AS genderType, p.occupancyType AS occupancyType, " +
+            "p.furnishingType AS furnishingType, p.foodAvailable AS foodAvailable, p.foodType AS foodType, " +
+            "p.minPrice AS minPrice, p.createdAt AS createdAt " +
+            "FROM Pg p WHERE p.isDeleted = false AND p.status = 'approved'")
+    List<FilterSource> findFilterSources();
+
+    @Query("SELECT p.id AS id, p.city AS city, p.state AS state, p.genderType AS genderType, p.occupancyType AS occupancyType, " +
+            "p.furnishingType AS furnishingType, p.foodAvailable AS foodAvailable, p.foodType AS foodType, " +
+            "p.minPrice AS minPrice, p.createdAt AS createdAt " +
+            "FROM Pg p WHERE p.id = :id AND p.isDeleted = false AND p.status = 'approved'")
+    Optional<FilterSource> findFilterSourceById(@Param("id") UUID id);
+
+    // Map index source - approved, located PGs only
+    @Query("SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude, p.minPrice AS minPrice, p.genderType AS genderType " +
+            "FROM Pg p WHERE p.isDeleted = false AND p.status = 'approved' " +
+            "AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    List<GeoSource> findGeoSources();
+
+    @Query("SELECT p.id AS id, p.latitude AS latitude, p.longitude AS longitude, p.minPrice AS minPrice, p.genderType AS genderType " +
+            "FROM Pg p WHERE p.id = :id AND p.isDeleted = false AND p.status = 'approved' " +
+            "AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    Optional<GeoSource> findGeoSourceById(@Param("id") UUID id);
+
+    /**
+     * Full-text search hit: PG id with its ts_rank score
+     */
+    interface SearchHit {
+        UUID getId();
+
+        Float getRank();
+    }
+
+    /**
+     * Autocomplete terms contributed by a PG
+     */
+    interface AutocompleteSource {
+        UUID getId();
+
+        String getName();
+
+        String getSlug();
+
+        String getCity();
+
+        String getLandmark();
+    }
+
+    /**
+     * Map marker data for a PG
+     */
+    interface GeoSource {
+        UUID getId();
+
+        BigDecimal getLatitude();
+
+        BigDecimal getLongitude();
+
+        BigDecimal getMinPrice();
+
+        String getGenderType();
+    }
+
+    /**
+     * Filterable attributes and sort keys of a PG
+     */
+    interface FilterSource {
+        UUID getId();
+
+        String getCity();
+
+        String getState();
+
+        String getGenderType();
+
+        String getOccupancyType();
+
+        String getFurnishingType();
+
+        Boolean getFoodAvailable();
+
+        String getFoodType();
+
+        BigDecimal getMinPrice();
+
+        Instant getCreatedAt();
+    }
+}
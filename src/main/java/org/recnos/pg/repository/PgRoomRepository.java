@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -15,6 +16,8 @@ public interface PgRoomRepository extends JpaRepository<PgRoom, UUID> {
 
     List<PgRoom> findByPgId(UUID pgId);
 
+    Optional<PgRoom> findByIdAndPgId(UUID id, UUID pgId);
+
     void deleteByPgId(UUID pgId);
 
     @Query("SELECT MIN(r.pricePerMonth) FROM PgRoom r WHERE r.pg.id = :pgId")
@@ -25,4 +28,20 @@ public interface PgRoomRepository extends JpaRepository<PgRoom, UUID> {
 
     @Query("SELECT SUM(r.availableBeds) FROM PgRoom r WHERE r.pg.id = :pgId")
     Integer getTotalAvailableBedsByPgId(@Param("pgId") UUID pgId);
-}
\ No newline at end of file
+
+    // Filter index source - price and free beds of every room
+    @Query("SELECT r.pg.id AS pgId, r.pricePerMonth AS pricePerMonth, r.availableBeds AS availableBeds FROM PgRoom r")
+    List<RoomSummary> findAllRoomSummaries();
+
+    @Query("SELECT r.pg.id AS pgId, r.pricePerMonth AS pricePerMonth, r.availableBeds AS availableBeds " +
+            "FROM PgRoom r WHERE r.pg.id = :pgId")
+    List<RoomSummary> findRoomSummariesByPgId(@Param("pgId") UUID pgId);
+
+    interface RoomSummary {
+        UUID getPgId();
+
+        BigDecimal getPricePerMonth();
+
+        Integer getAvailableBeds();
+    }
+}
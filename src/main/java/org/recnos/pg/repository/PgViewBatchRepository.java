@@ -0,0 +1,28 @@
+package org.recnos.pg.repository;
+
+import org.recnos.pg.event.PgViewEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batched writes for buffered page views
+ */
+public interface PgViewBatchRepository {
+
+    /**
+     * Add the counts to pgs.view_count in one statement. Must run inside a transaction.
+     *
+     * @return number of PGs updated
+     */
+    int applyViewCounts(Map<UUID, Long> counts);
+
+    /**
+     * Insert the views into pg_views as one JDBC batch. Views of PGs that no longer exist are
+     * skipped, and user ids that are not users (owners, admins) are stored as anonymous.
+     *
+     * @return number of rows inserted
+     */
+    int insertViews(List<PgViewEvent> views);
+}
@@ -0,0 +1,71 @@
+package org.recnos.pg.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.event.PgViewEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class PgViewBatchRepositoryImpl implements PgViewBatchRepository {
+
+    // Joins turn missing PGs into no row and non-user viewers into NULL instead of failing the whole batch on a foreign key
+    private static final String INSERT_VIEW_SQL = "INSERT INTO pg_views (pg_id, user_id, ip_address, user_agent, referrer, session_id, viewed_at) "
+            + "SELECT p.id, u.id, ?, ?, ?, ?, ? FROM pgs p LEFT JOIN users u ON u.id = ? WHERE p.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyViewCounts(Map<UUID, Long> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        // UPDATE pgs p SET view_count = ... FROM (VALUES (...), ...) AS v (pg_id, views) WHERE p.id = v.pg_id
+        StringBuilder sql = new StringBuilder("UPDATE pgs p SET view_count = COALESCE(p.view_count, 0) + v.views FROM (VALUES ");
+        for (int i = 0; i < counts.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(:pg").append(i).append(" AS uuid), CAST(:views").append(i).append(" AS integer))");
+        }
+        sql.append(") AS v (pg_id, views) WHERE p.id = v.pg_id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int index = 0;
+        for (Map.Entry<UUID, Long> entry : counts.entrySet()) {
+            query.setParameter("pg" + index, entry.getKey());
+            query.setParameter("views" + index, entry.getValue());
+            index++;
+        }
+        return query.executeUpdate();
+    }
+
+    @Override
+    public int insertViews(List<PgViewEvent> views) {
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_VIEW_SQL, views, views.size(), (ps, view) -> {
+            ps.setString(1, view.getIpAddress());
+            ps.setString(2, view.getUserAgent());
+            ps.setString(3, view.getReferrer());
+            ps.setString(4, view.getSessionId());
+            ps.setTimestamp(5, Timestamp.from(view.getViewedAt()));
+            ps.setObject(6, view.getUserId());
+            ps.setObject(7, view.getPgId());
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -1,4 +1,11 @@
 package org.recnos.pg.repository;
 
-public class PgViewRepository {
-}
\ No newline at end of file
+import org.recnos.pg.model.entity.PgView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PgViewRepository extends JpaRepository<PgView, UUID>, PgViewBatchRepository {
+}
@@ -1,4 +1,17 @@
 package org.recnos.pg.repository;
 
-public class PopularCityRepository {
-}
\ No newline at end of file
+import org.recnos.pg.model.entity.PopularCity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PopularCityRepository extends JpaRepository<PopularCity, UUID> {
+
+    Optional<PopularCity> findByCityName(String cityName);
+
+    List<PopularCity> findAllByOrderByDisplayOrderAsc();
+}
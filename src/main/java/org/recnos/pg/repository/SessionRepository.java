@@ -1,4 +1,40 @@
 package org.recnos.pg.repository;
 
-public class SessionRepository {
-}
\ No newline at end of file
+import jakarta.persistence.LockModeType;
+import org.recnos.pg.model.entity.Session;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SessionRepository extends JpaRepository<Session, UUID> {
+
+    // Serializes concurrent refreshes of one session so a refresh token rotates exactly once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Session s WHERE s.id = :id")
+    Optional<Session> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT s FROM Session s WHERE s.userId = :userId AND s.userType = :userType AND s.revokedAt IS NULL AND s.expiresAt > :now")
+    List<Session> findActiveByUser(@Param("userId") UUID userId, @Param("userType") String userType, @Param("now") Instant now);
+
+    @Query("SELECT s FROM Session s WHERE s.ownerId = :ownerId AND s.userType = :userType AND s.revokedAt IS NULL AND s.expiresAt > :now")
+    List<Session> findActiveByOwner(@Param("ownerId") UUID ownerId, @Param("userType") String userType, @Param("now") Instant now);
+
+    // Revoked sessions whose tokens could still be presented
+    @Query("SELECT s.id FROM Session s WHERE s.revokedAt IS NOT NULL AND s.expiresAt > :now")
+    List<UUID> findRevokedIds(@Param("now") Instant now);
+
+    boolean existsByIdAndRevokedAtIsNotNull(UUID id);
+
+    @Modifying
+    @Query("DELETE FROM Session s WHERE s.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,4 +1,24 @@
 package org.recnos.pg.scheduler;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.service.analytics.AnalyticsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
 public class AnalyticsScheduler {
-}
\ No newline at end of file
+
+    private final AnalyticsService analyticsService;
+
+    // Each run only processes rows newer than the stored watermarks, so it can run often
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval-ms:300000}", initialDelayString = "${analytics.rollup.initial-delay-ms:60000}")
+    public void refreshRollups() {
+        analyticsService.refreshRollups();
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.activity.flush-interval-ms:10000}")
+    public void flushPgActivity() {
+        analyticsService.flushPgActivity();
+    }
+}
@@ -1,4 +1,56 @@
 package org.recnos.pg.scheduler;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.service.analytics.PartitionMaintenanceService;
+import org.recnos.pg.service.auth.OtpService;
+import org.recnos.pg.service.auth.SessionService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
 public class CleanupScheduler {
-}
\ No newline at end of file
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final OtpService otpService;
+    private final SessionService sessionService;
+
+    // Nightly, and once at startup so an instance that was down over a month boundary
+    // still has a partition to insert into
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${partitioning.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        long start = System.currentTimeMillis();
+        try {
+            partitionMaintenanceService.maintain();
+            log.info("Partition maintenance finished in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Partition maintenance failed", e);
+        }
+    }
+
+    // A no-op with the Redis OTP store, where codes expire on their own
+    @Scheduled(cron = "${otp.cleanup-cron:0 */15 * * * *}")
+    public void purgeExpiredOtps() {
+        try {
+            otpService.cleanupExpiredOtps();
+        } catch (Exception e) {
+            log.error("OTP cleanup failed", e);
+        }
+    }
+
+    // Expired sessions can no longer be refreshed, so their rows and revocation entries can go
+    @Scheduled(cron = "${auth.sessions.cleanup-cron:0 0 3 * * *}")
+    public void purgeExpiredSessions() {
+        try {
+            int deleted = sessionService.purgeExpired();
+            log.info("Purged {} expired sessions", deleted);
+        } catch (Exception e) {
+            log.error("Session cleanup failed", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.recnos.pg.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.service.user.FavoriteService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flushes buffered favorite count deltas on a fixed interval and once more on shutdown,
+ * and periodically recounts favorites to repair drift
+ */
+@Component
+@RequiredArgsConstructor
+public class FavoriteCountScheduler {
+
+    private final FavoriteService favoriteService;
+
+    @Scheduled(fixedDelayString = "${pg.favorites.flush-interval-ms:10000}")
+    public void flush() {
+        favoriteService.flushCounts();
+    }
+
+    @Scheduled(cron = "${pg.favorites.reconcile-cron:0 15 * * * *}")
+    public void reconcile() {
+        favoriteService.reconcileCounts();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        favoriteService.flushCounts();
+    }
+}
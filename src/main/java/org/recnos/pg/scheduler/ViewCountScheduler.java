@@ -0,0 +1,71 @@
+package org.recnos.pg.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.repository.PgViewRepository;
+import org.recnos.pg.service.pg.PgViewCounter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Flushes buffered PG view counts to the database on a fixed interval and once more on shutdown
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountScheduler {
+
+    // Two bind parameters per PG keeps one statement far below the 65535 parameter limit
+    private static final int MAX_PGS_PER_STATEMENT = 1000;
+
+    private final PgViewCounter viewCounter;
+    private final PgViewRepository pgViewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${pg.views.flush-interval-ms:10000}")
+    public void flush() {
+        Map<UUID, Long> counts = viewCounter.drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        for (Map<UUID, Long> chunk : chunk(counts)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> pgViewRepository.applyViewCounts(chunk));
+            } catch (Exception e) {
+                log.error("Failed to flush view counts for {} PGs, retrying next interval", chunk.size(), e);
+                viewCounter.restore(chunk);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Helper methods
+    private static List<Map<UUID, Long>> chunk(Map<UUID, Long> counts) {
+        List<Map<UUID, Long>> chunks = new ArrayList<>();
+        Map<UUID, Long> current = new HashMap<>();
+        for (Map.Entry<UUID, Long> entry : counts.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() == MAX_PGS_PER_STATEMENT) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,49 @@
+package org.recnos.pg.security;
+
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.exception.ForbiddenException;
+import org.recnos.pg.repository.AdminRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Admin-only operations call this first. Tokens carry no roles, so the caller counts as an
+ * admin when their id is a row in admins. The answer is memoized on the principal, so the
+ * actuator check and any number of guarded service calls cost one lookup per request.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminGuard {
+
+    private final AdminRepository adminRepository;
+
+    /**
+     * @return id of the calling admin
+     * @throws ForbiddenException when the caller is not an admin
+     */
+    public UUID requireAdmin() {
+        AuthenticatedPrincipal principal = SecurityContextHolder.getCurrentPrincipal();
+        if (!isAdmin(principal)) {
+            throw new ForbiddenException("Admin access required");
+        }
+        return principal.getId();
+    }
+
+    /**
+     * Whether the caller is an authenticated admin; false for anonymous requests
+     */
+    public boolean isAdmin() {
+        return SecurityContextHolder.findCurrentPrincipal()
+                .map(this::isAdmin)
+                .orElse(false);
+    }
+
+    // Helper methods
+    private boolean isAdmin(AuthenticatedPrincipal principal) {
+        return principal.resolve(AdminStatus.class, id -> new AdminStatus(adminRepository.existsById(id))).admin();
+    }
+
+    private record AdminStatus(boolean admin) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.recnos.pg.security;
+
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Principal put into the security context by JwtAuthenticationFilter. It carries the ids parsed
+ * from the token, and anything resolved from them is memoized here, so it is loaded at most
+ * once per request however many service calls ask for it. Only values are memoized (profile
+ * views, the admin check), never entities: open-in-view is off in production, so each
+ * transaction would otherwise reload them, and an entity held here would be detached.
+ */
+@Getter
+public final class AuthenticatedPrincipal implements Principal {
+
+    private final UUID id;
+    private final UUID sessionId;
+
+    private final Map<Class<?>, Object> resolved = new ConcurrentHashMap<>(4);
+
+    public AuthenticatedPrincipal(UUID id, UUID sessionId) {
+        this.id = id;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Value of the given type for this principal, loaded on first use within the request.
+     * A failed load is not memoized.
+     */
+    public <T> T resolve(Class<T> type, Function<UUID, T> loader) {
+        Object value = resolved.get(type);
+        if (value == null) {
+            value = loader.apply(id);
+            resolved.putIfAbsent(type, value);
+        }
+        return type.cast(value);
+    }
+
+    @Override
+    public String getName() {
+        return id.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -24,6 +24,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final RevocationList revocationList;
 
     @Override
     protected void doFilterInternal(
@@ -39,35 +40,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Skip verification when an earlier filter already authenticated the request
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
             // Extract JWT token (remove "Bearer " prefix)
             final String jwt = authHeader.substring(7);
 
-            // Extract user ID from token
-            final String userIdString = jwtService.extractUserId(jwt);
-            final UUID userId = UUID.fromString(userIdString);
-
-            // If user ID is present and no authentication exists in context
-            if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Signature and expiry are checked in one parse, or served from the verified-token cache.
+            // Refresh tokens only work against /v1/auth/refresh, and revoked sessions are dropped
+            // through the in-memory revocation list rather than a database lookup. Tokens without
+            // a session predate sessions and cannot be revoked, so they are not accepted at all;
+            // that includes old refresh tokens, which carried no token type either.
+            jwtService.verify(jwt)
+                    .filter(verified -> !verified.refreshToken())
+                    .filter(verified -> verified.sessionId() != null && !revocationList.isRevoked(verified.sessionId()))
+                    .ifPresent(verified -> {
+                        final UUID userId = UUID.fromString(verified.subject());
 
-                // Validate token
-                if (!jwtService.isTokenExpired(jwt)) {
-                    // Create authentication token
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userIdString,
-                            null,
-                            new ArrayList<>() // Empty authorities for now
-                    );
+                        // Create authentication token; the principal resolves the account lazily
+                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                                new AuthenticatedPrincipal(userId, verified.sessionId()),
+                                null,
+                                new ArrayList<>() // Empty authorities for now
+                        );
 
-                    // Set additional details
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        // Set additional details
+                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    // Set authentication in security context
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                        // Set authentication in security context
+                        SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                    log.debug("Successfully authenticated user: {}", userId);
-                }
-            }
+                        log.debug("Successfully authenticated user: {}", userId);
+                    });
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
@@ -0,0 +1,34 @@
+package org.recnos.pg.security;
+
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.exception.ForbiddenException;
+import org.recnos.pg.exception.ResourceNotFoundException;
+import org.recnos.pg.model.entity.Pg;
+import org.recnos.pg.repository.PgRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Writes to a PG's rooms and images call this first, so only the owner of the listing can change it
+ */
+@Component
+@RequiredArgsConstructor
+public class PgOwnerGuard {
+
+    private final PgRepository pgRepository;
+
+    /**
+     * @return the PG, when the caller owns it
+     * @throws ForbiddenException when the PG belongs to someone else
+     */
+    public Pg requireOwnedPg(UUID pgId) {
+        Pg pg = pgRepository.findById(pgId)
+                .orElseThrow(() -> new ResourceNotFoundException("PG not found with id: " + pgId));
+        // Reading the id of the lazy owner proxy does not load the owner
+        if (pg.getOwner() == null || !pg.getOwner().getId().equals(SecurityContextHolder.getCurrentUserId())) {
+            throw new ForbiddenException("You can only modify your own PGs");
+        }
+        return pg;
+    }
+}
@@ -0,0 +1,138 @@
+package org.recnos.pg.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.constants.CacheConstants;
+import org.recnos.pg.event.ProfileUpdatedEvent;
+import org.recnos.pg.model.dto.response.owner.OwnerProfileResponse;
+import org.recnos.pg.model.dto.response.user.UserProfileResponse;
+import org.recnos.pg.util.SingleFlight;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of the profile views of the current user or owner, so authenticated flows
+ * that start from the caller's profile skip the primary-key lookup. Only the fields of the
+ * profile responses are held, never password hashes or block state.
+ * Entries are dropped once a profile change commits, on every node over Redis pub/sub when
+ * Redis is enabled; the TTL bounds staleness if a broadcast is lost.
+ */
+@Slf4j
+@Component
+public class ProfileCache {
+
+    private final Cache<UUID, UserProfileResponse> users = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.PROFILE_LOCAL_MAX_ENTRIES)
+            .expireAfterWrite(CacheConstants.PROFILE_LOCAL_TTL)
+            .build();
+
+    private final Cache<UUID, OwnerProfileResponse> owners = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.PROFILE_LOCAL_MAX_ENTRIES)
+            .expireAfterWrite(CacheConstants.PROFILE_LOCAL_TTL)
+            .build();
+
+    private final SingleFlight<UUID, UserProfileResponse> userLoads = new SingleFlight<>();
+    private final SingleFlight<UUID, OwnerProfileResponse> ownerLoads = new SingleFlight<>();
+
+    // Bumped on every eviction; a load that raced an eviction returns its result without caching it
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final boolean redisEnabled;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    public ProfileCache(@Value("${cache.redis.enabled:false}") boolean redisEnabled,
+                        ObjectProvider<StringRedisTemplate> redisTemplate,
+                        ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.redisEnabled = redisEnabled;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!redisEnabled) {
+            return;
+        }
+        listenerContainer.ifAvailable(container -> container.addMessageListener(
+                (message, pattern) -> evictRemote(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheConstants.PROFILE_INVALIDATION_CHANNEL)));
+    }
+
+    public UserProfileResponse getUser(UUID userId, Function<UUID, UserProfileResponse> loader) {
+        UserProfileResponse profile = users.getIfPresent(userId);
+        if (profile != null) {
+            return profile;
+        }
+        return userLoads.load(userId, id -> {
+            long generation = evictions.get();
+            UserProfileResponse loaded = loader.apply(id);
+            if (generation == evictions.get()) {
+                users.put(id, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    public OwnerProfileResponse getOwner(UUID ownerId, Function<UUID, OwnerProfileResponse> loader) {
+        OwnerProfileResponse profile = owners.getIfPresent(ownerId);
+        if (profile != null) {
+            return profile;
+        }
+        return ownerLoads.load(ownerId, id -> {
+            long generation = evictions.get();
+            OwnerProfileResponse loaded = loader.apply(id);
+            if (generation == evictions.get()) {
+                owners.put(id, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    // Evicting after commit keeps a concurrent read from caching the row as it was before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileUpdated(ProfileUpdatedEvent event) {
+        evictLocal(event.getUserType(), event.getId());
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().convertAndSend(CacheConstants.PROFILE_INVALIDATION_CHANNEL,
+                    event.getUserType() + ":" + event.getId());
+        } catch (Exception e) {
+            log.warn("Failed to broadcast profile invalidation of {} {}: {}", event.getUserType(), event.getId(), e.getMessage());
+        }
+    }
+
+    // Helper methods
+    private void evictLocal(String userType, UUID id) {
+        evictions.incrementAndGet();
+        if (AppConstants.SESSION_USER_TYPE_OWNER.equals(userType)) {
+            owners.invalidate(id);
+        } else {
+            users.invalidate(id);
+        }
+    }
+
+    private void evictRemote(String message) {
+        int separator = message.indexOf(':');
+        try {
+            evictLocal(message.substring(0, Math.max(separator, 0)), UUID.fromString(message.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed profile invalidation message: {}", message);
+        }
+    }
+}
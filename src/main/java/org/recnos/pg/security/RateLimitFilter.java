@@ -0,0 +1,127 @@
+package org.recnos.pg.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.config.RateLimitProperties;
+import org.recnos.pg.model.dto.response.ErrorResponse;
+import org.recnos.pg.util.ClientIpUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the first rate limit policy whose methods and paths match the request.
+ * Runs after JwtAuthenticationFilter so authenticated requests are limited per user;
+ * anonymous requests are limited per client IP.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitProperties.Policy> entry : properties.getPolicies().entrySet()) {
+            RateLimitProperties.Policy policy = entry.getValue();
+            if (!matches(policy, request.getMethod(), path)) {
+                continue;
+            }
+
+            long tokens = cost(policy, request);
+            ConsumptionProbe probe = rateLimiter.tryConsume(entry.getKey(), policy, subject(request), tokens);
+            if (!probe.isConsumed()) {
+                reject(request, response, entry.getKey(), probe);
+                return;
+            }
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Helper methods
+    private boolean matches(RateLimitProperties.Policy policy, String method, String path) {
+        if (!policy.getMethods().isEmpty() && policy.getMethods().stream().noneMatch(method::equalsIgnoreCase)) {
+            return false;
+        }
+        return policy.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    private long cost(RateLimitProperties.Policy policy, HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (policy.getCostPart() == null || contentType == null || !contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            return 1;
+        }
+        try {
+            long parts = 0;
+            for (Part part : request.getParts()) {
+                if (policy.getCostPart().equals(part.getName())) {
+                    parts++;
+                }
+            }
+            return Math.max(parts, 1);
+        } catch (Exception e) {
+            // Oversized or malformed uploads are rejected later by the multipart resolver
+            return 1;
+        }
+    }
+
+    private static String subject(HttpServletRequest request) {
+        return SecurityContextHolder.findCurrentUserId()
+                .map(UUID::toString)
+                .orElseGet(() -> "ip:" + ClientIpUtil.clientIp(request));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String policyName,
+                        ConsumptionProbe probe) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + 999_999_999L));
+        log.warn("Rate limit {} exceeded for {} {}", policyName, request.getMethod(), request.getRequestURI());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Rate limit exceeded. Please try again in " + retryAfterSeconds + " seconds")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
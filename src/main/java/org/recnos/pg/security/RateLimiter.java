@@ -0,0 +1,157 @@
+package org.recnos.pg.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.config.RateLimitProperties;
+import org.recnos.pg.constants.CacheConstants;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Token buckets for RateLimitFilter. With Redis enabled the buckets live in Redis and are
+ * updated by compare-and-swap, so every node enforces one shared limit. Without Redis, or while
+ * it is unreachable, each node falls back to its own bounded Caffeine cache of buckets.
+ * Redis commands run with a short timeout, and after a failure every call goes straight to the
+ * local buckets until the retry interval has passed, so an outage costs one timeout per interval
+ * rather than one per request.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final Duration REDIS_RETRY_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration REDIS_FAILURE_BACKOFF = Duration.ofSeconds(5);
+
+    private final boolean redisEnabled;
+    private final ObjectProvider<LettuceConnectionFactory> connectionFactory;
+    private final Duration bucketIdleExpiry;
+    private final Duration redisTimeout;
+    private final Cache<String, Bucket> localBuckets;
+
+    private volatile ProxyManager<String> remoteBuckets;
+    private volatile StatefulConnection<String, byte[]> connection;
+    private volatile long nextConnectAttempt; // also gates use of an established connection after a failure
+
+    public RateLimiter(@Value("${cache.redis.enabled:false}") boolean redisEnabled,
+                       ObjectProvider<LettuceConnectionFactory> connectionFactory,
+                       RateLimitProperties properties) {
+        this.redisEnabled = redisEnabled;
+        this.connectionFactory = connectionFactory;
+        // An idle bucket is full again after the longest refill period, so dropping it then loses nothing
+        this.bucketIdleExpiry = properties.getLongestRefillPeriod();
+        this.redisTimeout = properties.getRedisTimeout();
+        this.nextConnectAttempt = System.nanoTime();
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxEntries())
+                .expireAfterAccess(bucketIdleExpiry)
+                .build();
+    }
+
+    /**
+     * Take tokens from the bucket of the subject under the named policy
+     */
+    public ConsumptionProbe tryConsume(String policyName, RateLimitProperties.Policy policy, String subject, long tokens) {
+        String key = policyName + ":" + subject;
+        ProxyManager<String> remote = remoteBuckets();
+        if (remote != null) {
+            try {
+                return remote.builder()
+                        .build(CacheConstants.RATE_LIMIT_KEY_PREFIX + key, () -> configuration(policy))
+                        .tryConsumeAndReturnRemaining(tokens);
+            } catch (Exception e) {
+                nextConnectAttempt = System.nanoTime() + REDIS_FAILURE_BACKOFF.toNanos();
+                log.warn("Redis rate limiting failed for {}, using local buckets for {} s: {}",
+                        key, REDIS_FAILURE_BACKOFF.toSeconds(), e.getMessage());
+            }
+        }
+        return localBuckets.get(key, k -> Bucket.builder().addLimit(bandwidth(policy)).build())
+                .tryConsumeAndReturnRemaining(tokens);
+    }
+
+    @PreDestroy
+    public void close() {
+        StatefulConnection<String, byte[]> current = connection;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    // Helper methods
+
+    // Connects on first use rather than at startup; null while backing off after a failure
+    private ProxyManager<String> remoteBuckets() {
+        if (!redisEnabled || System.nanoTime() - nextConnectAttempt < 0) {
+            return null;
+        }
+        if (remoteBuckets != null) {
+            return remoteBuckets;
+        }
+        synchronized (this) {
+            if (remoteBuckets == null && System.nanoTime() - nextConnectAttempt >= 0) {
+                try {
+                    remoteBuckets = connect();
+                } catch (Exception e) {
+                    nextConnectAttempt = System.nanoTime() + REDIS_RETRY_INTERVAL.toNanos();
+                    log.warn("Cannot connect rate limiter to Redis, using local buckets: {}", e.getMessage());
+                }
+            }
+            return remoteBuckets;
+        }
+    }
+
+    private ProxyManager<String> connect() {
+        RedisCodec<String, byte[]> codec = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+        ExpirationAfterWriteStrategy expiration = ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(bucketIdleExpiry);
+        AbstractRedisClient client = connectionFactory.getObject().getRequiredNativeClient();
+
+        if (client instanceof RedisClusterClient clusterClient) {
+            StatefulRedisClusterConnection<String, byte[]> clusterConnection = clusterClient.connect(codec);
+            clusterConnection.setTimeout(redisTimeout);
+            connection = clusterConnection;
+            return LettuceBasedProxyManager.builderFor(clusterConnection)
+                    .withExpirationStrategy(expiration)
+                    .build();
+        }
+        StatefulRedisConnection<String, byte[]> redisConnection = ((RedisClient) client).connect(codec);
+        redisConnection.setTimeout(redisTimeout);
+        connection = redisConnection;
+        return LettuceBasedProxyManager.builderFor(redisConnection)
+                .withExpirationStrategy(expiration)
+                .build();
+    }
+
+    private static BucketConfiguration configuration(RateLimitProperties.Policy policy) {
+        return BucketConfiguration.builder()
+                .addLimit(bandwidth(policy))
+                .build();
+    }
+
+    private static Bandwidth bandwidth(RateLimitProperties.Policy policy) {
+        return Bandwidth.builder()
+                .capacity(policy.getCapacity())
+                .refillIntervally(policy.getRefillTokens(), policy.getRefillPeriod())
+                .build();
+    }
+}
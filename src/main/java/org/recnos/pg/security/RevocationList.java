@@ -0,0 +1,152 @@
+package org.recnos.pg.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.constants.CacheConstants;
+import org.recnos.pg.event.SessionsRevokedEvent;
+import org.recnos.pg.repository.SessionRepository;
+import org.recnos.pg.util.BloomFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revoked sessions, checked by JwtAuthenticationFilter on every authenticated request.
+ * A Bloom filter of revoked session ids answers almost every check in memory; only a hit is
+ * confirmed against the sessions table, and the answer is cached briefly so false positives
+ * cost one query per session per minute. Revocations reach other nodes immediately over Redis
+ * pub/sub when Redis is enabled, and in any case on the periodic rebuild from the table,
+ * which also drops sessions that have expired since.
+ */
+@Slf4j
+@Component
+public class RevocationList {
+
+    private final SessionRepository sessionRepository;
+    private final boolean redisEnabled;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    private final Cache<UUID, Boolean> confirmed = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(CacheConstants.REVOCATION_CONFIRMED_TTL)
+            .build();
+
+    private final Object lock = new Object();
+    private volatile BloomFilter filter = newFilter(0);
+    private List<UUID> revokedDuringRebuild; // guarded by lock, null when no rebuild is running
+
+    public RevocationList(SessionRepository sessionRepository,
+                          @Value("${cache.redis.enabled:false}") boolean redisEnabled,
+                          ObjectProvider<StringRedisTemplate> redisTemplate,
+                          ObjectProvider<RedisMessageListenerContainer> listenerContainer) {
+        this.sessionRepository = sessionRepository;
+        this.redisEnabled = redisEnabled;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void init() {
+        rebuild();
+        if (!redisEnabled) {
+            return;
+        }
+        listenerContainer.ifAvailable(container -> container.addMessageListener(
+                (message, pattern) -> addRemote(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheConstants.SESSION_REVOCATION_CHANNEL)));
+    }
+
+    public boolean isRevoked(UUID sessionId) {
+        if (!filter.mightContain(sessionId)) {
+            return false;
+        }
+        return confirmed.get(sessionId, sessionRepository::existsByIdAndRevokedAtIsNotNull);
+    }
+
+    // Only committed revocations are added, so a confirmation never reads the row before it is revoked
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionsRevoked(SessionsRevokedEvent event) {
+        for (UUID sessionId : event.getSessionIds()) {
+            add(sessionId);
+            publish(sessionId);
+        }
+    }
+
+    /**
+     * Replace the filter with one holding only the revoked sessions that have not expired
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval-ms:300000}", initialDelayString = "${auth.revocation.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (lock) {
+            revokedDuringRebuild = new ArrayList<>();
+        }
+
+        BloomFilter fresh;
+        try {
+            List<UUID> revoked = sessionRepository.findRevokedIds(Instant.now());
+            fresh = newFilter(revoked.size());
+            revoked.forEach(fresh::add);
+        } catch (Exception e) {
+            log.error("Failed to rebuild the session revocation filter, keeping the current one", e);
+            synchronized (lock) {
+                revokedDuringRebuild = null;
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            revokedDuringRebuild.forEach(fresh::add);
+            revokedDuringRebuild = null;
+            filter = fresh;
+        }
+    }
+
+    // Helper methods
+    private void add(UUID sessionId) {
+        synchronized (lock) {
+            filter.add(sessionId);
+            if (revokedDuringRebuild != null) {
+                revokedDuringRebuild.add(sessionId);
+            }
+        }
+        confirmed.invalidate(sessionId);
+    }
+
+    private void addRemote(String sessionId) {
+        try {
+            add(UUID.fromString(sessionId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed session revocation message: {}", sessionId);
+        }
+    }
+
+    private void publish(UUID sessionId) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().convertAndSend(CacheConstants.SESSION_REVOCATION_CHANNEL, sessionId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to broadcast revocation of session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private static BloomFilter newFilter(int revokedSessions) {
+        return new BloomFilter(Math.max(CacheConstants.REVOCATION_FILTER_EXPECTED_SESSIONS, 2L * revokedSessions),
+                CacheConstants.REVOCATION_FILTER_FALSE_POSITIVE_RATE);
+    }
+}
@@ -4,28 +4,45 @@ import org.recnos.pg.exception.UnauthorizedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public class SecurityContextHolder {
 
     public static UUID getCurrentUserId() {
+        return getCurrentPrincipal().getId();
+    }
+
+    /**
+     * Current user ID, or empty for anonymous requests
+     */
+    public static Optional<UUID> findCurrentUserId() {
+        return findCurrentPrincipal().map(AuthenticatedPrincipal::getId);
+    }
+
+    /**
+     * Principal of the authenticated request; also memoizes what services resolve from it
+     */
+    public static AuthenticatedPrincipal getCurrentPrincipal() {
         Authentication authentication = getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new UnauthorizedException("User is not authenticated");
         }
-
-        Object principal = authentication.getPrincipal();
-        if (principal instanceof String) {
-            try {
-                return UUID.fromString((String) principal);
-            } catch (IllegalArgumentException e) {
-                throw new UnauthorizedException("Invalid user ID in authentication");
-            }
+        if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+            return principal;
         }
-
         throw new UnauthorizedException("Invalid authentication principal");
     }
 
+    public static Optional<AuthenticatedPrincipal> findCurrentPrincipal() {
+        Authentication authentication = getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedPrincipal principal)) {
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
     private static Authentication getAuthentication() {
         SecurityContext context = org.springframework.security.core.context.SecurityContextHolder.getContext();
         return context != null ? context.getAuthentication() : null;
@@ -1,4 +1,152 @@
 package org.recnos.pg.service.admin;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.event.OwnerRegisteredEvent;
+import org.recnos.pg.event.PgApprovedEvent;
+import org.recnos.pg.event.PgCreatedEvent;
+import org.recnos.pg.event.PgDeletedEvent;
+import org.recnos.pg.event.UserRegisteredEvent;
+import org.recnos.pg.exception.ServiceUnavailableException;
+import org.recnos.pg.model.dto.response.admin.AdminDashboardResponse;
+import org.recnos.pg.security.AdminGuard;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admin dashboard metrics served from memory. A full snapshot of admin_dashboard_metrics is taken
+ * on a schedule; between snapshots, domain events adjust the counts they unambiguously affect.
+ * Page loads never touch the database, and any drift from the event deltas is corrected by the
+ * next snapshot. Revenue, visits and subscriptions only change on snapshot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class AdminService {
-}
\ No newline at end of file
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdminGuard adminGuard;
+
+    private volatile Snapshot snapshot;
+    private final AtomicReference<Deltas> deltas = new AtomicReference<>(new Deltas());
+    private volatile Instant lastEventAt;
+
+    public AdminDashboardResponse getDashboardMetrics() {
+        adminGuard.requireAdmin();
+        Snapshot current = snapshot;
+        if (current == null) {
+            refreshDashboardMetrics();
+            current = snapshot;
+            if (current == null) {
+                throw new ServiceUnavailableException("Dashboard metrics are not available yet", 30);
+            }
+        }
+
+        Deltas applied = current.deltas();
+        Map<String, Object> metrics = current.metrics();
+        Instant eventAt = lastEventAt;
+        return AdminDashboardResponse.builder()
+                .totalUsers(count(metrics, "total_users") + applied.users.sum())
+                .usersToday(count(metrics, "users_today") + applied.users.sum())
+                .totalOwners(count(metrics, "total_owners") + applied.owners.sum())
+                .verifiedOwners(count(metrics, "verified_owners"))
+                .totalPgs(count(metrics, "total_pgs") + applied.pgs.sum())
+                .activePgs(count(metrics, "active_pgs") + applied.activePgs.sum())
+                .pendingApprovals(Math.max(0, count(metrics, "pending_approvals") + applied.pendingApprovals.sum()))
+                .pendingVisits(count(metrics, "pending_visits"))
+                .revenueCurrentMonth(amount(metrics, "revenue_current_month"))
+                .revenueLastMonth(amount(metrics, "revenue_last_month"))
+                .activeSubscriptions(count(metrics, "active_subscriptions"))
+                .refreshedAt(current.takenAt())
+                .updatedAt(eventAt != null && eventAt.isAfter(current.takenAt()) ? eventAt : current.takenAt())
+                .build();
+    }
+
+    /**
+     * Replace the snapshot. Deltas are restarted before the query so no event is lost; an event
+     * landing while the query runs may be counted twice until the next refresh.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${admin.dashboard.refresh-interval-ms:300000}", initialDelayString = "${admin.dashboard.refresh-interval-ms:300000}")
+    public void refreshDashboardMetrics() {
+        long start = System.currentTimeMillis();
+        try {
+            Deltas fresh = new Deltas();
+            Instant takenAt = Instant.now();
+            deltas.set(fresh);
+            Map<String, Object> metrics = jdbcTemplate.queryForMap("SELECT * FROM admin_dashboard_metrics");
+            snapshot = new Snapshot(metrics, fresh, takenAt);
+            log.debug("Admin dashboard snapshot refreshed in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Failed to refresh admin dashboard metrics", e);
+        }
+    }
+
+    // Event-driven adjustments between snapshots
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        apply(deltas.get().users, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOwnerRegistered(OwnerRegisteredEvent event) {
+        apply(deltas.get().owners, 1);
+    }
+
+    // New listings start in draft with approval pending
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPgCreated(PgCreatedEvent event) {
+        Deltas current = deltas.get();
+        apply(current.pgs, 1);
+        apply(current.pendingApprovals, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPgApproved(PgApprovedEvent event) {
+        Deltas current = deltas.get();
+        apply(current.activePgs, 1);
+        apply(current.pendingApprovals, -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPgDeleted(PgDeletedEvent event) {
+        apply(deltas.get().pgs, -1);
+    }
+
+    // Helper methods
+    private void apply(LongAdder counter, long delta) {
+        counter.add(delta);
+        lastEventAt = Instant.now();
+    }
+
+    private static long count(Map<String, Object> metrics, String column) {
+        Object value = metrics.get(column);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static BigDecimal amount(Map<String, Object> metrics, String column) {
+        Object value = metrics.get(column);
+        return value instanceof BigDecimal decimal ? decimal : value instanceof Number number ? BigDecimal.valueOf(number.doubleValue()) : BigDecimal.ZERO;
+    }
+
+    private record Snapshot(Map<String, Object> metrics, Deltas deltas, Instant takenAt) {
+    }
+
+    private static final class Deltas {
+        private final LongAdder users = new LongAdder();
+        private final LongAdder owners = new LongAdder();
+        private final LongAdder pgs = new LongAdder();
+        private final LongAdder activePgs = new LongAdder();
+        private final LongAdder pendingApprovals = new LongAdder();
+    }
+}
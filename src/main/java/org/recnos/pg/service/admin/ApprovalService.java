@@ -1,4 +1,65 @@
 package org.recnos.pg.service.admin;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.event.PgApprovedEvent;
+import org.recnos.pg.event.PgUpdatedEvent;
+import org.recnos.pg.exception.ResourceNotFoundException;
+import org.recnos.pg.mapper.PgMapper;
+import org.recnos.pg.model.dto.request.admin.ApprovalRequest;
+import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.model.entity.Pg;
+import org.recnos.pg.repository.AdminRepository;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.security.AdminGuard;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
 public class ApprovalService {
-}
\ No newline at end of file
+
+    private final PgRepository pgRepository;
+    private final AdminRepository adminRepository;
+    private final AdminGuard adminGuard;
+    private final PgMapper pgMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Approve or reject a PG listing
+    @Transactional
+    public PgListResponse reviewPg(UUID pgId, ApprovalRequest request) {
+        UUID adminId = adminGuard.requireAdmin();
+        Pg pg = pgRepository.findById(pgId)
+                .filter(existing -> !Boolean.TRUE.equals(existing.getIsDeleted()))
+                .orElseThrow(() -> new ResourceNotFoundException("PG not found with id: " + pgId));
+
+        boolean wasApproved = AppConstants.PG_STATUS_APPROVED.equals(pg.getStatus());
+        pg.setApprovalStatus(request.getDecision());
+        pg.setApprovalNotes(request.getNotes());
+
+        if (AppConstants.APPROVAL_STATUS_APPROVED.equals(request.getDecision())) {
+            pg.setStatus(AppConstants.PG_STATUS_APPROVED);
+            pg.setApprovedAt(Instant.now());
+            pg.setApprovedBy(adminRepository.getReferenceById(adminId));
+        } else {
+            pg.setStatus(AppConstants.PG_STATUS_DRAFT);
+            pg.setApprovedAt(null);
+            pg.setApprovedBy(null);
+        }
+
+        pg.setUpdatedAt(Instant.now());
+        Pg reviewedPg = pgRepository.save(pg);
+
+        // Approval puts the listing into the public search indexes; rejection takes it out.
+        // Only a transition counts as an approval, so re-approving does not inflate dashboard counters.
+        eventPublisher.publishEvent(!wasApproved && AppConstants.PG_STATUS_APPROVED.equals(reviewedPg.getStatus())
+                ? new PgApprovedEvent(pgId)
+                : new PgUpdatedEvent(pgId));
+
+        return pgMapper.toListResponse(reviewedPg);
+    }
+}
@@ -1,4 +1,64 @@
 package org.recnos.pg.service.admin;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.exception.ResourceNotFoundException;
+import org.recnos.pg.model.dto.request.admin.BlockUserRequest;
+import org.recnos.pg.model.entity.Owner;
+import org.recnos.pg.model.entity.User;
+import org.recnos.pg.repository.OwnerRepository;
+import org.recnos.pg.repository.UserRepository;
+import org.recnos.pg.security.AdminGuard;
+import org.recnos.pg.service.auth.SessionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
 public class ModerationService {
-}
\ No newline at end of file
+
+    private final UserRepository userRepository;
+    private final OwnerRepository ownerRepository;
+    private final AdminGuard adminGuard;
+    private final SessionService sessionService;
+
+    // Block or unblock a user; blocking also ends every session the user holds
+    @Transactional
+    public void setUserBlocked(UUID userId, BlockUserRequest request) {
+        adminGuard.requireAdmin();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+
+        boolean blocked = request.getBlocked();
+        user.setIsBlocked(blocked);
+        user.setBlockedReason(blocked ? request.getReason() : null);
+        user.setBlockedAt(blocked ? LocalDateTime.now() : null);
+        userRepository.save(user);
+
+        if (blocked) {
+            sessionService.revokeAll(AppConstants.SESSION_USER_TYPE_USER, userId);
+        }
+    }
+
+    // Block or unblock an owner; blocking also ends every session the owner holds
+    @Transactional
+    public void setOwnerBlocked(UUID ownerId, BlockUserRequest request) {
+        adminGuard.requireAdmin();
+        Owner owner = ownerRepository.findById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Owner not found with id: " + ownerId));
+
+        boolean blocked = request.getBlocked();
+        owner.setIsBlocked(blocked);
+        owner.setBlockedReason(blocked ? request.getReason() : null);
+        owner.setBlockedAt(blocked ? Instant.now() : null);
+        ownerRepository.save(owner);
+
+        if (blocked) {
+            sessionService.revokeAll(AppConstants.SESSION_USER_TYPE_OWNER, ownerId);
+        }
+    }
+}
@@ -1,5 +1,209 @@
 package org.recnos.pg.service.analytics;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.exception.BadRequestException;
+import org.recnos.pg.model.dto.response.admin.AdminAnalyticsResponse;
+import org.recnos.pg.security.AdminGuard;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains the analytics rollup tables (V12) incrementally. Each source table has a watermark;
+ * a run folds only rows in (watermark, now - lag] into the rollups and advances the watermark
+ * in the same transaction, so every row is counted exactly once no matter how often it runs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class AnalyticsService {
 
-}
\ No newline at end of file
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    // Locks the watermark row so concurrent instances never fold the same range twice
+    private static final String CLAIM_RANGE_SQL = "SELECT processed_until, LOCALTIMESTAMP - make_interval(mins => :lagMinutes) AS upper_bound "
+            + "FROM analytics_rollup_watermarks WHERE source = :source FOR UPDATE";
+
+    private static final String ADVANCE_WATERMARK_SQL = "UPDATE analytics_rollup_watermarks "
+            + "SET processed_until = :to, updated_at = CURRENT_TIMESTAMP WHERE source = :source";
+
+    // The pgs join skips PGs removed since the event instead of failing the batch on the foreign key
+    private static final String ADD_ACTIVITY_SQL = "INSERT INTO pg_daily_stats (pg_id, stat_date, contact_clicks, conversions) "
+            + "SELECT p.id, :date, :contactClicks, :conversions FROM pgs p WHERE p.id = :pgId "
+            + "ON CONFLICT (pg_id, stat_date) DO UPDATE SET "
+            + "contact_clicks = pg_daily_stats.contact_clicks + EXCLUDED.contact_clicks, "
+            + "conversions = pg_daily_stats.conversions + EXCLUDED.conversions";
+
+    private static final String ADD_CONTACT_CLICKS_SQL = "UPDATE pgs SET contact_click_count = COALESCE(contact_click_count, 0) + :contactClicks "
+            + "WHERE id = :pgId";
+
+    private static final List<RollupSource> SOURCES = List.of(
+            new RollupSource("users", List.of(
+                    dailyMetric("user_registration", "users", "created_at", null))),
+            new RollupSource("owners", List.of(
+                    dailyMetric("owner_registration", "owners", "created_at", null))),
+            new RollupSource("pg_views", List.of(
+                    dailyMetric("pg_views", "pg_views", "viewed_at", null),
+                    pgDailyStat("views", "pg_views", "viewed_at"))),
+            new RollupSource("visits", List.of(
+                    dailyMetric("visit_requests", "visits", "created_at", null),
+                    pgDailyStat("visit_requests", "visits", "created_at"))),
+            new RollupSource("callbacks", List.of(
+                    dailyMetric("callbacks", "callbacks", "created_at", null),
+                    pgDailyStat("callbacks", "callbacks", "created_at"))),
+            new RollupSource("favorites", List.of(
+                    dailyMetric("favorites", "favorites", "created_at", null),
+                    pgDailyStat("favorites", "favorites", "created_at"))),
+            new RollupSource("payments", List.of(
+                    dailyMetric("payments", "payments", "paid_at", "status = 'success'"))));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PgActivityCounter activityCounter;
+    private final AdminGuard adminGuard;
+
+    // Rows can commit a little after their timestamp; anything younger than this waits for the next run
+    @Value("${analytics.rollup.lag-minutes:5}")
+    private int lagMinutes;
+
+    /**
+     * Fold new rows of every source into the rollups. A failing source is logged and retried next run.
+     */
+    public void refreshRollups() {
+        for (RollupSource source : SOURCES) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> refresh(source));
+            } catch (Exception e) {
+                log.error("Failed to roll up {}", source.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Add the event-fed activity counted since the last flush to pg_daily_stats and the PG totals
+     */
+    public void flushPgActivity() {
+        List<PgActivityCounter.Activity> activities = activityCounter.drain();
+        if (activities.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = activities.stream()
+                .map(activity -> new MapSqlParameterSource("pgId", activity.pgId())
+                        .addValue("date", activity.date())
+                        .addValue("contactClicks", activity.contactClicks())
+                        .addValue("conversions", activity.conversions()))
+                .toArray(SqlParameterSource[]::new);
+        SqlParameterSource[] clicks = activities.stream()
+                .filter(activity -> activity.contactClicks() > 0)
+                .map(activity -> new MapSqlParameterSource("pgId", activity.pgId())
+                        .addValue("contactClicks", activity.contactClicks()))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(ADD_ACTIVITY_SQL, batch);
+                jdbcTemplate.batchUpdate(ADD_CONTACT_CLICKS_SQL, clicks);
+            });
+        } catch (Exception e) {
+            log.error("Failed to flush activity for {} PG days, retrying next run", activities.size(), e);
+            activityCounter.restore(activities);
+        }
+    }
+
+    /**
+     * Platform metrics per day between two dates (inclusive), read from the rollups. Admins only.
+     */
+    public AdminAnalyticsResponse getDailyMetrics(LocalDate fromDate, LocalDate toDate) {
+        adminGuard.requireAdmin();
+        LocalDate to = toDate != null ? toDate : LocalDate.now();
+        LocalDate from = fromDate != null ? fromDate : to.minusDays(DEFAULT_RANGE_DAYS - 1L);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<String, Map<LocalDate, Long>> daily = new TreeMap<>();
+        Map<String, Long> totals = new TreeMap<>();
+        jdbcTemplate.query("SELECT metric_date, metric, count FROM analytics_daily_metrics "
+                        + "WHERE metric_date BETWEEN :from AND :to ORDER BY metric_date",
+                new MapSqlParameterSource("from", from).addValue("to", to),
+                rs -> {
+                    String metric = rs.getString("metric");
+                    long count = rs.getLong("count");
+                    daily.computeIfAbsent(metric, key -> new TreeMap<>()).put(rs.getDate("metric_date").toLocalDate(), count);
+                    totals.merge(metric, count, Long::sum);
+                });
+
+        return AdminAnalyticsResponse.builder()
+                .fromDate(from)
+                .toDate(to)
+                .totals(totals)
+                .daily(daily)
+                .processedUntil(getProcessedUntil())
+                .build();
+    }
+
+    /**
+     * Oldest watermark across sources - the rollups are complete up to this instant
+     */
+    public LocalDateTime getProcessedUntil() {
+        Timestamp processedUntil = jdbcTemplate.queryForObject(
+                "SELECT min(processed_until) FROM analytics_rollup_watermarks", Map.of(), Timestamp.class);
+        return processedUntil != null ? processedUntil.toLocalDateTime() : null;
+    }
+
+    // Helper methods
+    private void refresh(RollupSource source) {
+        MapSqlParameterSource params = new MapSqlParameterSource("source", source.name()).addValue("lagMinutes", lagMinutes);
+        Map<String, Object> range = jdbcTemplate.queryForMap(CLAIM_RANGE_SQL, params);
+        Timestamp from = (Timestamp) range.get("processed_until");
+        Timestamp to = (Timestamp) range.get("upper_bound");
+        if (!to.after(from)) {
+            return;
+        }
+
+        params.addValue("from", from).addValue("to", to);
+        int rows = 0;
+        for (String statement : source.statements()) {
+            rows += jdbcTemplate.update(statement, params);
+        }
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, params);
+        log.debug("Rolled up {} up to {} ({} rollup rows touched)", source.name(), to, rows);
+    }
+
+    private static String dailyMetric(String metric, String table, String timestampColumn, String condition) {
+        return "INSERT INTO analytics_daily_metrics (metric_date, metric, count) "
+                + "SELECT date(" + timestampColumn + "), '" + metric + "', count(*) FROM " + table
+                + " WHERE " + timestampColumn + " > :from AND " + timestampColumn + " <= :to"
+                + (condition != null ? " AND " + condition : "")
+                + " GROUP BY 1 "
+                + "ON CONFLICT (metric_date, metric) DO UPDATE SET count = analytics_daily_metrics.count + EXCLUDED.count";
+    }
+
+    private static String pgDailyStat(String column, String table, String timestampColumn) {
+        return "INSERT INTO pg_daily_stats (pg_id, stat_date, " + column + ") "
+                + "SELECT pg_id, date(" + timestampColumn + "), count(*) FROM " + table
+                + " WHERE " + timestampColumn + " > :from AND " + timestampColumn + " <= :to"
+                + " GROUP BY 1, 2 "
+                + "ON CONFLICT (pg_id, stat_date) DO UPDATE SET " + column + " = pg_daily_stats." + column + " + EXCLUDED." + column;
+    }
+
+    private record RollupSource(String name, List<String> statements) {
+    }
+}
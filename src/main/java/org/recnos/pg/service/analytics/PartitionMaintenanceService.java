@@ -0,0 +1,104 @@
+package org.recnos.pg.service.analytics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.config.PartitionProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates upcoming monthly partitions and retires expired ones for the tables partitioned in V11.
+ * Partitions are named {@code <table>_pYYYY_MM}; anything else attached to a parent is left alone.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String PARTITION_MARKER = "_p";
+
+    private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = ? ORDER BY c.relname";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties properties;
+
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        retentionByTable().forEach((table, retentionMonths) -> {
+            for (int ahead = 0; ahead <= properties.getPremakeMonths(); ahead++) {
+                createPartition(table, current.plusMonths(ahead));
+            }
+            if (retentionMonths > 0) {
+                retireExpired(table, current.minusMonths(retentionMonths - 1L));
+            }
+        });
+    }
+
+    // Helper methods
+    private Map<String, Integer> retentionByTable() {
+        PartitionProperties.Retention retention = properties.getRetention();
+        Map<String, Integer> tables = new LinkedHashMap<>();
+        tables.put("pg_views", retention.getPgViews());
+        tables.put("search_queries", retention.getSearchQueries());
+        tables.put("user_activity_logs", retention.getUserActivityLogs());
+        return tables;
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        String partition = partitionName(table, month);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        } catch (Exception e) {
+            log.error("Failed to create partition {}: {}", partition, e.getMessage());
+        }
+    }
+
+    // Partitions whose whole month is before the oldest retained month
+    private void retireExpired(String table, YearMonth oldestRetained) {
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class, table);
+        for (String partition : partitions) {
+            YearMonth month = partitionMonth(table, partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                if (properties.isDropExpired()) {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                    log.info("Dropped expired partition {}", partition);
+                } else {
+                    log.info("Detached expired partition {}", partition);
+                }
+            } catch (Exception e) {
+                log.error("Failed to retire partition {}: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + PARTITION_MARKER + month.format(SUFFIX_FORMAT);
+    }
+
+    private static YearMonth partitionMonth(String table, String partition) {
+        String prefix = table + PARTITION_MARKER;
+        if (!partition.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(prefix.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.recnos.pg.service.analytics;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory per-PG, per-day activity counts fed from domain events, drained into
+ * pg_daily_stats by AnalyticsService. Past days are pruned once drained to zero.
+ */
+@Component
+public class PgActivityCounter {
+
+    private final ConcurrentHashMap<Key, Counts> pending = new ConcurrentHashMap<>();
+
+    public void recordContactClick(UUID pgId) {
+        counts(pgId).contactClicks.increment();
+    }
+
+    public void recordConversion(UUID pgId) {
+        counts(pgId).conversions.increment();
+    }
+
+    /**
+     * Take the counts recorded since the last drain
+     */
+    public List<Activity> drain() {
+        LocalDate today = LocalDate.now();
+        List<Activity> drained = new ArrayList<>();
+        pending.forEach((key, counts) -> {
+            long contactClicks = counts.contactClicks.sumThenReset();
+            long conversions = counts.conversions.sumThenReset();
+            if (contactClicks > 0 || conversions > 0) {
+                drained.add(new Activity(key.pgId(), key.date(), contactClicks, conversions));
+            } else if (key.date().isBefore(today)) {
+                pending.remove(key, counts);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * Put back counts whose flush failed so the next run retries them
+     */
+    public void restore(List<Activity> activities) {
+        for (Activity activity : activities) {
+            Counts counts = pending.computeIfAbsent(new Key(activity.pgId(), activity.date()), key -> new Counts());
+            counts.contactClicks.add(activity.contactClicks());
+            counts.conversions.add(activity.conversions());
+        }
+    }
+
+    // Helper methods
+    private Counts counts(UUID pgId) {
+        return pending.computeIfAbsent(new Key(pgId, LocalDate.now()), key -> new Counts());
+    }
+
+    public record Activity(UUID pgId, LocalDate date, long contactClicks, long conversions) {
+    }
+
+    private record Key(UUID pgId, LocalDate date) {
+    }
+
+    private static final class Counts {
+        private final LongAdder contactClicks = new LongAdder();
+        private final LongAdder conversions = new LongAdder();
+    }
+}
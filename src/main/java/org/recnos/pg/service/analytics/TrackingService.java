@@ -1,4 +1,118 @@
 package org.recnos.pg.service.analytics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.event.PgViewEvent;
+import org.recnos.pg.repository.PgViewRepository;
+import org.recnos.pg.security.SecurityContextHolder;
+import org.recnos.pg.util.ClientIpUtil;
+import org.recnos.pg.util.RingBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Asynchronous page view tracking. Request threads only enqueue into a bounded lock-free ring
+ * buffer; a scheduled writer drains it into pg_views with JDBC batch inserts. When the buffer
+ * is full the view is dropped and counted, so tracking never slows down or fails a request.
+ */
+@Slf4j
+@Service
 public class TrackingService {
-}
\ No newline at end of file
+
+    private static final String SESSION_HEADER = "X-Session-Id";
+
+    // pg_views column widths
+    private static final int MAX_IP_LENGTH = 50;
+    private static final int MAX_REFERRER_LENGTH = 500;
+    private static final int MAX_SESSION_LENGTH = 255;
+
+    private final PgViewRepository pgViewRepository;
+    private final RingBuffer<PgViewEvent> pgViews;
+    private final int batchSize;
+
+    private final Counter accepted;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteFailed;
+    private final Counter written;
+
+    public TrackingService(PgViewRepository pgViewRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${tracking.pg-views.buffer-capacity:65536}") int bufferCapacity,
+                           @Value("${tracking.pg-views.batch-size:500}") int batchSize) {
+        this.pgViewRepository = pgViewRepository;
+        this.pgViews = new RingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+
+        this.accepted = meterRegistry.counter("tracking.pg_views.accepted");
+        this.droppedBufferFull = meterRegistry.counter("tracking.pg_views.dropped", "reason", "buffer_full");
+        this.droppedWriteFailed = meterRegistry.counter("tracking.pg_views.dropped", "reason", "write_failed");
+        this.written = meterRegistry.counter("tracking.pg_views.written");
+        Gauge.builder("tracking.pg_views.buffer.size", pgViews, RingBuffer::size).register(meterRegistry);
+        Gauge.builder("tracking.pg_views.buffer.capacity", pgViews, RingBuffer::capacity).register(meterRegistry);
+    }
+
+    /**
+     * Record a PG page view from the current request. Never blocks and never throws.
+     */
+    public void trackPgView(UUID pgId, HttpServletRequest request) {
+        try {
+            PgViewEvent view = new PgViewEvent(
+                    pgId,
+                    SecurityContextHolder.findCurrentUserId().orElse(null),
+                    truncate(request.getHeader(SESSION_HEADER), MAX_SESSION_LENGTH),
+                    truncate(request.getHeader("Referer"), MAX_REFERRER_LENGTH),
+                    request.getHeader("User-Agent"),
+                    truncate(ClientIpUtil.clientIp(request), MAX_IP_LENGTH),
+                    Instant.now());
+
+            if (pgViews.offer(view)) {
+                accepted.increment();
+            } else {
+                droppedBufferFull.increment();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to track view of PG {}: {}", pgId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drain the buffer in batches until it is empty or a batch fails
+     */
+    @Scheduled(fixedDelayString = "${tracking.pg-views.flush-interval-ms:500}")
+    public void flushPgViews() {
+        List<PgViewEvent> batch = new ArrayList<>(batchSize);
+        while (pgViews.drainTo(batch, batchSize) > 0) {
+            try {
+                pgViewRepository.insertViews(batch);
+                written.increment(batch.size());
+            } catch (Exception e) {
+                // Retrying would only grow the backlog behind a struggling database
+                droppedWriteFailed.increment(batch.size());
+                log.error("Failed to write {} PG views, dropping them", batch.size(), e);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPgViews();
+    }
+
+    // Helper methods
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
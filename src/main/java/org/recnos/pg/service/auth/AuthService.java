@@ -1,7 +1,10 @@
 package org.recnos.pg.service.auth;
 
 import lombok.RequiredArgsConstructor;
-import org.recnos.pg.config.JwtConfig;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.event.OwnerRegisteredEvent;
+import org.recnos.pg.event.ProfileUpdatedEvent;
+import org.recnos.pg.event.UserRegisteredEvent;
 import org.recnos.pg.exception.BadRequestException;
 import org.recnos.pg.exception.DuplicateResourceException;
 import org.recnos.pg.exception.InvalidCredentialsException;
@@ -18,9 +21,10 @@ import org.recnos.pg.model.entity.Owner;
 import org.recnos.pg.model.entity.User;
 import org.recnos.pg.repository.OwnerRepository;
 import org.recnos.pg.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -33,12 +37,14 @@ public class AuthService {
     private final OwnerRepository ownerRepository;
     private final UserMapper userMapper;
     private final OwnerMapper ownerMapper;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
-    private final JwtConfig jwtConfig;
+    private final PasswordService passwordService;
+    private final SessionService sessionService;
     private final OtpService otpService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // Not transactional for the same reason as login: the password is hashed before the
+    // transaction that stores the user opens, so no connection waits on the hashing pool
     public RegisterResponse register(RegisterRequest request) {
         // Check for duplicate email
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -56,12 +62,18 @@ public class AuthService {
             throw new DuplicateResourceException("Google account already linked to another user");
         }
 
+        String passwordHash = passwordService.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> createUser(request, passwordHash));
+    }
+
+    private RegisterResponse createUser(RegisterRequest request, String passwordHash) {
         // Create new user
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
         user.setMobile(request.getMobile());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setGoogleId(request.getGoogleId());
         user.setIsEmailVerified(false);
         user.setIsMobileVerified(false);
@@ -70,9 +82,10 @@ public class AuthService {
         user.setIsBlocked(false);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId()));
 
         // Generate tokens
-        TokenResponse tokens = generateTokens(savedUser.getId());
+        TokenResponse tokens = generateTokens(AppConstants.SESSION_USER_TYPE_USER, savedUser.getId());
 
         return RegisterResponse.builder()
                 .message("User registered successfully")
@@ -81,7 +94,8 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
+    // Not transactional: no connection is held while the password check waits on the hashing pool,
+    // and each save commits on its own so failed attempts count even though the login then fails
     public LoginResponse login(LoginRequest request) {
         // Find user by email or mobile
         User user = userRepository.findByEmail(request.getEmailOrMobile())
@@ -99,19 +113,26 @@ public class AuthService {
         }
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        PasswordService.Verification verification = passwordService.verify(request.getPassword(), user.getPasswordHash());
+        if (!verification.matches()) {
             handleFailedLogin(user);
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
+        // Store a stronger hash when the configured cost was raised since this one was made
+        if (verification.upgradedHash() != null) {
+            user.setPasswordHash(verification.upgradedHash());
+        }
+
         // Reset login attempts on successful login
         user.setLoginAttempts(0);
         user.setLockedUntil(null);
         user.setLastLogin(LocalDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(AppConstants.SESSION_USER_TYPE_USER, user.getId()));
 
         // Generate tokens
-        TokenResponse tokens = generateTokens(user.getId());
+        TokenResponse tokens = generateTokens(AppConstants.SESSION_USER_TYPE_USER, user.getId());
 
         return LoginResponse.builder()
                 .message("Login successful")
@@ -179,7 +200,9 @@ public class AuthService {
                     newUser.setMfaEnabled(false);
                     newUser.setLoginAttempts(0);
                     newUser.setIsBlocked(false);
-                    return userRepository.save(newUser);
+                    User savedUser = userRepository.save(newUser);
+                    eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId()));
+                    return savedUser;
                 });
 
         // Check if user is blocked
@@ -191,9 +214,10 @@ public class AuthService {
         user.setIsMobileVerified(true);
         user.setLastLogin(LocalDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(AppConstants.SESSION_USER_TYPE_USER, user.getId()));
 
         // Generate tokens
-        TokenResponse tokens = generateTokens(user.getId());
+        TokenResponse tokens = generateTokens(AppConstants.SESSION_USER_TYPE_USER, user.getId());
 
         return LoginResponse.builder()
                 .message("Login successful")
@@ -220,7 +244,9 @@ public class AuthService {
                     newOwner.setTrustScore(50);
                     newOwner.setComplaintCount(0);
                     newOwner.setAutoRespondEnabled(false);
-                    return ownerRepository.save(newOwner);
+                    Owner savedOwner = ownerRepository.save(newOwner);
+                    eventPublisher.publishEvent(new OwnerRegisteredEvent(savedOwner.getId()));
+                    return savedOwner;
                 });
 
         // Check if owner is blocked
@@ -232,9 +258,10 @@ public class AuthService {
         owner.setIsMobileVerified(true);
         owner.setLastLogin(Instant.now());
         ownerRepository.save(owner);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(AppConstants.SESSION_USER_TYPE_OWNER, owner.getId()));
 
         // Generate tokens
-        TokenResponse tokens = generateTokens(owner.getId());
+        TokenResponse tokens = generateTokens(AppConstants.SESSION_USER_TYPE_OWNER, owner.getId());
 
         return OwnerLoginResponse.builder()
                 .message("Login successful")
@@ -243,16 +270,8 @@ public class AuthService {
                 .build();
     }
 
-    private TokenResponse generateTokens(java.util.UUID userId) {
-        String accessToken = jwtService.generateAccessToken(userId);
-        String refreshToken = jwtService.generateRefreshToken(userId);
-
-        return TokenResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .tokenType("Bearer")
-                .expiresIn(jwtConfig.getAccessTokenExpiration() / 1000) // Convert to seconds
-                .build();
+    private TokenResponse generateTokens(String userType, java.util.UUID subjectId) {
+        return sessionService.createSession(userType, subjectId);
     }
 
     public OwnerLoginResponse registerOwner(RegisterRequest registerRequest) {
@@ -284,9 +303,10 @@ public class AuthService {
         owner.setAutoRespondEnabled(false);
 
         Owner savedOwner = ownerRepository.save(owner);
+        eventPublisher.publishEvent(new OwnerRegisteredEvent(savedOwner.getId()));
 
         // Generate tokens
-        TokenResponse tokens = generateTokens(savedOwner.getId());
+        TokenResponse tokens = generateTokens(AppConstants.SESSION_USER_TYPE_OWNER, savedOwner.getId());
 
         return OwnerLoginResponse.builder()
                 .message("Owner registered successfully")
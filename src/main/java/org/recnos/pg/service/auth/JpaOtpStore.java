@@ -0,0 +1,86 @@
+package org.recnos.pg.service.auth;
+
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.model.entity.Otp;
+import org.recnos.pg.repository.OtpRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * OTPs in the otps table, for running without Redis. Only the resend cooldown is enforced here;
+ * the per-window send cap needs RedisOtpStore. Each call commits on its own so a failed attempt
+ * is still counted when the caller's transaction rolls back.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class JpaOtpStore implements OtpStore {
+
+    private final OtpRepository otpRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaOtpStore(OtpRepository otpRepository, PlatformTransactionManager transactionManager) {
+        this.otpRepository = otpRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public Duration issue(String mobile, String userType, String code) {
+        return transactionTemplate.execute(status -> {
+            Optional<Otp> latest = otpRepository.findFirstByMobileAndUserTypeOrderByCreatedAtDesc(mobile, userType);
+            if (latest.isPresent() && latest.get().getCreatedAt() != null) {
+                Duration sinceSent = Duration.between(latest.get().getCreatedAt(), LocalDateTime.now());
+                if (sinceSent.compareTo(AppConstants.OTP_RESEND_COOLDOWN) < 0) {
+                    return AppConstants.OTP_RESEND_COOLDOWN.minus(sinceSent);
+                }
+            }
+
+            otpRepository.deleteByMobileAndUserType(mobile, userType);
+            otpRepository.save(Otp.builder()
+                    .mobile(mobile)
+                    .otpCode(code)
+                    .userType(userType)
+                    .isVerified(false)
+                    .attempts(0)
+                    .expiresAt(LocalDateTime.now().plus(AppConstants.OTP_TTL))
+                    .build());
+            return Duration.ZERO;
+        });
+    }
+
+    @Override
+    public VerificationResult verify(String mobile, String userType, String code) {
+        return transactionTemplate.execute(status -> {
+            Optional<Otp> pending = otpRepository.findByMobileAndUserTypeAndIsVerifiedFalseAndExpiresAtAfter(
+                    mobile, userType, LocalDateTime.now());
+            if (pending.isEmpty()) {
+                return VerificationResult.EXPIRED;
+            }
+
+            Otp otp = pending.get();
+            if (otp.getAttempts() >= AppConstants.OTP_MAX_ATTEMPTS) {
+                otpRepository.delete(otp);
+                return VerificationResult.ATTEMPTS_EXCEEDED;
+            }
+
+            otp.setAttempts(otp.getAttempts() + 1);
+            if (!otp.getOtpCode().equals(code)) {
+                return VerificationResult.INVALID;
+            }
+            otp.setIsVerified(true);
+            return VerificationResult.VERIFIED;
+        });
+    }
+
+    @Override
+    public void purgeExpired() {
+        transactionTemplate.executeWithoutResult(status -> otpRepository.deleteByExpiresAtBefore(LocalDateTime.now()));
+    }
+}
@@ -1,54 +1,139 @@
 package org.recnos.pg.service.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.recnos.pg.config.JwtConfig;
+import org.recnos.pg.constants.CacheConstants;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies JWTs. The signing key and parser are built once; tokens that passed
+ * verification are cached by SHA-256 hash until shortly before they expire, so a client
+ * sending the same token on every request is parsed and verified once.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
+    private static final String SESSION_CLAIM = "sid";
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtConfig jwtConfig;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.JWT_VERIFIED_MAX_ENTRIES)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    return ttlOf(token);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return ttlOf(token);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtService(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.signingKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
-    public String generateAccessToken(UUID userId) {
+    public String generateAccessToken(UUID userId, UUID sessionId, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userId.toString(), jwtConfig.getAccessTokenExpiration());
+        claims.put(SESSION_CLAIM, sessionId.toString());
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        return createToken(claims, userId.toString(), tokenId, jwtConfig.getAccessTokenExpiration());
     }
 
-    public String generateRefreshToken(UUID userId) {
+    public String generateRefreshToken(UUID userId, UUID sessionId, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userId.toString(), jwtConfig.getRefreshTokenExpiration());
+        claims.put(SESSION_CLAIM, sessionId.toString());
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        return createToken(claims, userId.toString(), tokenId, jwtConfig.getRefreshTokenExpiration());
     }
 
-    private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+    private String createToken(Map<String, Object> claims, String subject, String tokenId, Long expiration) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
+                .id(tokenId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify signature and expiry in a single parse, served from the cache for recently verified tokens
+     *
+     * @return the verified claims, or empty if the token is malformed, forged or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            // The cache may hold an entry for up to its TTL; never honour one past the token's expiry
+            return cached.isExpired() ? Optional.empty() : Optional.of(cached);
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            String sessionId = claims.get(SESSION_CLAIM, String.class);
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant(),
+                    sessionId != null ? UUID.fromString(sessionId) : null,
+                    claims.getId(),
+                    REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)));
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public String extractUserId(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -63,11 +148,7 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -75,7 +156,39 @@ public class JwtService {
     }
 
     public Boolean validateToken(String token, UUID userId) {
-        final String tokenUserId = extractUserId(token);
-        return (tokenUserId.equals(userId.toString()) && !isTokenExpired(token));
+        return verify(token)
+                .map(verified -> verified.subject().equals(userId.toString()))
+                .orElse(false);
+    }
+
+    // Helper methods
+    private static long ttlOf(VerifiedToken token) {
+        Duration untilExpiry = Duration.between(Instant.now(), token.expiresAt());
+        if (untilExpiry.isNegative()) {
+            return 0;
+        }
+        return untilExpiry.compareTo(CacheConstants.JWT_VERIFIED_MAX_TTL) < 0
+                ? untilExpiry.toNanos()
+                : CacheConstants.JWT_VERIFIED_MAX_TTL.toNanos();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Claims of a token whose signature and expiry were verified.
+     * sessionId and tokenId are null for tokens issued before sessions were tracked.
+     */
+    public record VerifiedToken(String subject, Instant expiresAt, UUID sessionId, String tokenId, boolean refreshToken) {
+
+        public boolean isExpired() {
+            return !Instant.now().isBefore(expiresAt);
+        }
     }
-}
\ No newline at end of file
+}
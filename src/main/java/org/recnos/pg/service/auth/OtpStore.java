@@ -0,0 +1,34 @@
+package org.recnos.pg.service.auth;
+
+import java.time.Duration;
+
+/**
+ * Storage of pending login OTPs, keyed by mobile number and user type.
+ * RedisOtpStore is used when Redis is enabled; JpaOtpStore keeps the otps table for local development.
+ */
+public interface OtpStore {
+
+    /**
+     * Replace any pending code for the mobile number, unless it is being throttled
+     *
+     * @return zero if the code was stored, otherwise how long until another code may be sent
+     */
+    Duration issue(String mobile, String userType, String code);
+
+    /**
+     * Count one attempt against the pending code and consume it on a match
+     */
+    VerificationResult verify(String mobile, String userType, String code);
+
+    /**
+     * Remove expired codes, for stores without native expiry
+     */
+    void purgeExpired();
+
+    enum VerificationResult {
+        VERIFIED,
+        INVALID,
+        EXPIRED,
+        ATTEMPTS_EXCEEDED
+    }
+}
@@ -1,4 +1,113 @@
 package org.recnos.pg.service.auth;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Password hashing and verification on the bounded passwordHashExecutor. Request threads wait
+ * for the result without burning CPU; when the queue is full or the wait times out the request
+ * fails fast with 503 so credential checks cannot starve other traffic.
+ * Metrics are published as password.hash.*.
+ */
+@Slf4j
+@Service
 public class PasswordService {
-}
\ No newline at end of file
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public PasswordService(PasswordEncoder passwordEncoder,
+                           @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                           MeterRegistry meterRegistry,
+                           @Value("${security.password.timeout-ms:10000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+
+        this.rejected = meterRegistry.counter("password.hash.shed", "reason", "queue_full");
+        this.timedOut = meterRegistry.counter("password.hash.shed", "reason", "timeout");
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * Check a password and, when it matches a hash made with outdated settings, rehash it in the same task
+     *
+     * @return the match result and the replacement hash to store, if any
+     */
+    public Verification verify(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return new Verification(false, null);
+        }
+        return run(() -> {
+            if (!passwordEncoder.matches(rawPassword, passwordHash)) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(passwordHash) ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    // Helper methods
+    private <T> T run(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests. Please try again shortly.", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests. Please try again shortly.", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check interrupted. Please try again.", RETRY_AFTER_SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+}
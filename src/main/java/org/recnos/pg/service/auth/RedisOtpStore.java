@@ -0,0 +1,110 @@
+package org.recnos.pg.service.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.constants.CacheConstants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * OTPs in Redis. Codes expire through key TTLs, and issuing and verifying are each one Lua
+ * script call, so throttling and attempt counting are atomic across nodes.
+ * Keys of one mobile number share a hash tag so the scripts also work on Redis Cluster.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+public class RedisOtpStore implements OtpStore {
+
+    // KEYS: code hash, cooldown, send counter. ARGV: code, code TTL, cooldown, max sends, send window (ms).
+    // Returns 0 once stored, otherwise the milliseconds until another code may be sent.
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            local cooldown = redis.call('PTTL', KEYS[2])
+            if cooldown > 0 then
+                return cooldown
+            end
+            local sends = redis.call('INCR', KEYS[3])
+            if sends == 1 then
+                redis.call('PEXPIRE', KEYS[3], ARGV[5])
+            end
+            if sends > tonumber(ARGV[4]) then
+                local window = redis.call('PTTL', KEYS[3])
+                if window < 0 then
+                    redis.call('PEXPIRE', KEYS[3], ARGV[5])
+                    window = tonumber(ARGV[5])
+                end
+                return window
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[3])
+            return 0
+            """, Long.class);
+
+    // KEYS: code hash. ARGV: code, max attempts.
+    // Returns 0 expired or missing, 1 verified, 2 invalid, 3 attempts exceeded.
+    private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of("""
+            local stored = redis.call('HGET', KEYS[1], 'code')
+            if not stored then
+                return 0
+            end
+            local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            if attempts > tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+                return 3
+            end
+            if stored == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Duration issue(String mobile, String userType, String code) {
+        String prefix = keyPrefix(mobile, userType);
+        Long retryAfterMillis = redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(prefix + ":code", prefix + ":cooldown", prefix + ":sends"),
+                code,
+                String.valueOf(AppConstants.OTP_TTL.toMillis()),
+                String.valueOf(AppConstants.OTP_RESEND_COOLDOWN.toMillis()),
+                String.valueOf(AppConstants.OTP_MAX_SENDS_PER_WINDOW),
+                String.valueOf(AppConstants.OTP_SEND_WINDOW.toMillis()));
+        return retryAfterMillis == null ? Duration.ZERO : Duration.ofMillis(retryAfterMillis);
+    }
+
+    @Override
+    public VerificationResult verify(String mobile, String userType, String code) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT,
+                List.of(keyPrefix(mobile, userType) + ":code"),
+                code,
+                String.valueOf(AppConstants.OTP_MAX_ATTEMPTS));
+        if (result == null) {
+            return VerificationResult.EXPIRED;
+        }
+        return switch (result.intValue()) {
+            case 1 -> VerificationResult.VERIFIED;
+            case 2 -> VerificationResult.INVALID;
+            case 3 -> VerificationResult.ATTEMPTS_EXCEEDED;
+            default -> VerificationResult.EXPIRED;
+        };
+    }
+
+    @Override
+    public void purgeExpired() {
+        // Keys expire on their own
+    }
+
+    // Helper methods
+    private static String keyPrefix(String mobile, String userType) {
+        return CacheConstants.OTP_KEY_PREFIX + "{" + userType + ":" + mobile + "}";
+    }
+}
@@ -1,4 +1,163 @@
 package org.recnos.pg.service.auth;
 
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.config.JwtConfig;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.event.SessionsRevokedEvent;
+import org.recnos.pg.exception.UnauthorizedException;
+import org.recnos.pg.model.dto.response.auth.TokenResponse;
+import org.recnos.pg.model.entity.Session;
+import org.recnos.pg.repository.SessionRepository;
+import org.recnos.pg.util.ClientIpUtil;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server-side sessions behind the JWTs. Every login creates a session whose access and refresh
+ * tokens carry its id; a refresh rotates both tokens, and presenting a refresh token that was
+ * already rotated revokes the session. Revocations take effect on the next request through
+ * RevocationList, without a database lookup per request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class SessionService {
-}
\ No newline at end of file
+
+    private static final int MAX_IP_LENGTH = 50;
+
+    private final SessionRepository sessionRepository;
+    private final JwtService jwtService;
+    private final JwtConfig jwtConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Start a session for a user or owner and issue its first token pair
+     */
+    @Transactional
+    public TokenResponse createSession(String userType, UUID subjectId) {
+        Session session = new Session();
+        session.setUserType(userType);
+        if (AppConstants.SESSION_USER_TYPE_OWNER.equals(userType)) {
+            session.setOwnerId(subjectId);
+        } else {
+            session.setUserId(subjectId);
+        }
+        session.setCreatedAt(Instant.now());
+
+        HttpServletRequest request = currentRequest();
+        if (request != null) {
+            String ip = ClientIpUtil.clientIp(request);
+            session.setIpAddress(ip != null && ip.length() > MAX_IP_LENGTH ? ip.substring(0, MAX_IP_LENGTH) : ip);
+            session.setUserAgent(request.getHeader("User-Agent"));
+        }
+
+        return issueTokens(session, subjectId);
+    }
+
+    /**
+     * Exchange a refresh token for a new token pair, invalidating the one presented
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public TokenResponse refresh(String refreshToken) {
+        JwtService.VerifiedToken token = verifyRefreshToken(refreshToken);
+        Session session = sessionRepository.findByIdForUpdate(token.sessionId())
+                .orElseThrow(() -> new UnauthorizedException("Session not found. Please log in again."));
+
+        if (session.getRevokedAt() != null || session.getExpiresAt().isBefore(Instant.now())) {
+            throw new UnauthorizedException("Session has ended. Please log in again.");
+        }
+
+        // A rotated refresh token used again means it leaked: end the session for both holders
+        if (!token.tokenId().equals(session.getRefreshToken())) {
+            log.warn("Refresh token reuse detected for session {}, revoking it", session.getId());
+            revoke(List.of(session));
+            throw new UnauthorizedException("Refresh token is no longer valid. Please log in again.");
+        }
+
+        session.setRefreshedAt(Instant.now());
+        return issueTokens(session, UUID.fromString(token.subject()));
+    }
+
+    /**
+     * End the session the refresh token belongs to
+     */
+    @Transactional
+    public void logout(String refreshToken) {
+        JwtService.VerifiedToken token = verifyRefreshToken(refreshToken);
+        sessionRepository.findByIdForUpdate(token.sessionId())
+                .filter(session -> session.getRevokedAt() == null)
+                .ifPresent(session -> revoke(List.of(session)));
+    }
+
+    /**
+     * End every active session of a user or owner, e.g. when the account is blocked
+     *
+     * @return number of sessions revoked
+     */
+    @Transactional
+    public int revokeAll(String userType, UUID subjectId) {
+        List<Session> sessions = AppConstants.SESSION_USER_TYPE_OWNER.equals(userType)
+                ? sessionRepository.findActiveByOwner(subjectId, userType, Instant.now())
+                : sessionRepository.findActiveByUser(subjectId, userType, Instant.now());
+        revoke(sessions);
+        return sessions.size();
+    }
+
+    /**
+     * Delete sessions that expired more than a day ago; their tokens can no longer be presented
+     */
+    @Transactional
+    public int purgeExpired() {
+        return sessionRepository.deleteExpiredBefore(Instant.now().minus(Duration.ofDays(1)));
+    }
+
+    // Helper methods
+    private TokenResponse issueTokens(Session session, UUID subjectId) {
+        String accessTokenId = UUID.randomUUID().toString();
+        String refreshTokenId = UUID.randomUUID().toString();
+        session.setToken(accessTokenId);
+        session.setRefreshToken(refreshTokenId);
+        session.setExpiresAt(Instant.now().plusMillis(jwtConfig.getRefreshTokenExpiration()));
+        Session saved = sessionRepository.save(session);
+
+        return TokenResponse.builder()
+                .accessToken(jwtService.generateAccessToken(subjectId, saved.getId(), accessTokenId))
+                .refreshToken(jwtService.generateRefreshToken(subjectId, saved.getId(), refreshTokenId))
+                .tokenType("Bearer")
+                .expiresIn(jwtConfig.getAccessTokenExpiration() / 1000) // Convert to seconds
+                .build();
+    }
+
+    private JwtService.VerifiedToken verifyRefreshToken(String refreshToken) {
+        return jwtService.verify(refreshToken)
+                .filter(JwtService.VerifiedToken::refreshToken)
+                .filter(token -> token.sessionId() != null && token.tokenId() != null)
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired refresh token"));
+    }
+
+    private void revoke(List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        sessions.forEach(session -> session.setRevokedAt(now));
+        sessionRepository.saveAll(sessions);
+        eventPublisher.publishEvent(new SessionsRevokedEvent(sessions.stream().map(Session::getId).toList()));
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+}
@@ -1,4 +1,85 @@
 package org.recnos.pg.service.owner;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.exception.BadRequestException;
+import org.recnos.pg.model.dto.response.owner.OwnerAnalyticsResponse;
+import org.recnos.pg.model.dto.response.owner.PgActivityStats;
+import org.recnos.pg.service.analytics.AnalyticsService;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Owner dashboard read from pg_daily_stats. The stats primary key is (pg_id, stat_date), so the
+ * whole range costs one index range scan per listing of the owner.
+ */
+@Service
+@RequiredArgsConstructor
 public class OwnerAnalyticsService {
-}
\ No newline at end of file
+
+    private static final int MAX_DAYS = 365;
+
+    private static final String OWNER_STATS_SQL = "SELECT s.pg_id, p.name, s.stat_date, s.views, s.favorites, s.contact_clicks, "
+            + "s.visit_requests, s.callbacks, s.conversions "
+            + "FROM pgs p JOIN pg_daily_stats s ON s.pg_id = p.id "
+            + "WHERE p.owner_id = :ownerId AND p.is_deleted = FALSE AND s.stat_date BETWEEN :from AND :to";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AnalyticsService analyticsService;
+
+    public OwnerAnalyticsResponse getAnalytics(UUID ownerId, int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new BadRequestException("days must be between 1 and " + MAX_DAYS);
+        }
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+
+        PgActivityStats totals = new PgActivityStats();
+        Map<LocalDate, PgActivityStats> daily = new TreeMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            daily.put(date, PgActivityStats.builder().date(date).build());
+        }
+        Map<UUID, PgActivityStats> listings = new HashMap<>();
+
+        jdbcTemplate.query(OWNER_STATS_SQL,
+                new MapSqlParameterSource("ownerId", ownerId).addValue("from", from).addValue("to", to),
+                rs -> {
+                    PgActivityStats row = toStats(rs);
+                    UUID pgId = rs.getObject("pg_id", UUID.class);
+                    String pgName = rs.getString("name");
+                    totals.add(row);
+                    daily.get(rs.getDate("stat_date").toLocalDate()).add(row);
+                    listings.computeIfAbsent(pgId, id -> PgActivityStats.builder().pgId(id).pgName(pgName).build()).add(row);
+                });
+
+        List<PgActivityStats> byListing = new ArrayList<>(listings.values());
+        byListing.sort(Comparator.comparingLong(PgActivityStats::getViews).reversed());
+
+        return OwnerAnalyticsResponse.builder()
+                .ownerId(ownerId)
+                .fromDate(from)
+                .toDate(to)
+                .totals(totals)
+                .daily(new ArrayList<>(daily.values()))
+                .listings(byListing)
+                .processedUntil(analyticsService.getProcessedUntil())
+                .build();
+    }
+
+    // Helper methods
+    private static PgActivityStats toStats(ResultSet rs) throws SQLException {
+        return PgActivityStats.builder()
+                .views(rs.getLong("views"))
+                .favorites(rs.getLong("favorites"))
+                .contactClicks(rs.getLong("contact_clicks"))
+                .visitRequests(rs.getLong("visit_requests"))
+                .callbacks(rs.getLong("callbacks"))
+                .conversions(rs.getLong("conversions"))
+                .build();
+    }
+}
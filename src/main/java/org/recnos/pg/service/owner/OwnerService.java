@@ -6,6 +6,7 @@ import org.recnos.pg.mapper.OwnerMapper;
 import org.recnos.pg.model.dto.response.owner.OwnerProfileResponse;
 import org.recnos.pg.model.entity.Owner;
 import org.recnos.pg.repository.OwnerRepository;
+import org.recnos.pg.security.ProfileCache;
 import org.recnos.pg.security.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +19,12 @@ public class OwnerService {
 
     private final OwnerRepository ownerRepository;
     private final OwnerMapper ownerMapper;
+    private final ProfileCache profileCache;
 
-    @Transactional(readOnly = true)
+    // Memoized on the principal for the request and served from the profile cache across requests
     public OwnerProfileResponse getCurrentOwnerProfile() {
-        UUID ownerId = SecurityContextHolder.getCurrentUserId();
-        Owner owner = ownerRepository.findById(ownerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Owner not found with id: " + ownerId));
-        return ownerMapper.toProfileResponse(owner);
+        return SecurityContextHolder.getCurrentPrincipal().resolve(OwnerProfileResponse.class,
+                ownerId -> profileCache.getOwner(ownerId, this::getOwnerProfileById));
     }
 
     @Transactional(readOnly = true)
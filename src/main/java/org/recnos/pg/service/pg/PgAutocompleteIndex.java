@@ -0,0 +1,470 @@
+package org.recnos.pg.service.pg;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.model.dto.response.pg.AutocompleteSuggestion;
+import org.recnos.pg.model.entity.PopularCity;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.repository.PopularCityRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index (trie) of cities, localities and PG names used for search-box autocomplete.
+ * Only approved listings are indexed, the same visibility rule as search and filter browsing.
+ * Lookups never touch the database; the index is built on startup and kept current through
+ * {@link #index} / {@link #remove} as listings change. Changes that land while a rebuild is
+ * reading the database are replayed onto the new trie before it is swapped in.
+ * Every word of a term is indexed, so "comf" matches "Sunrise Comfort PG". Queries of
+ * {@value #MIN_FUZZY_LENGTH}+ characters also match with one edit (insert, delete, substitute, transpose).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgAutocompleteIndex {
+
+    public static final String TYPE_CITY = "city";
+    public static final String TYPE_LOCALITY = "locality";
+    public static final String TYPE_PG = "pg";
+
+    private static final int MIN_FUZZY_LENGTH = 3;
+    private static final double FUZZY_FACTOR = 0.5;
+    private static final int POPULAR_CITY_BOOST = 100;
+
+    private final PgRepository pgRepository;
+    private final PopularCityRepository popularCityRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile State state = new State();
+    // Latest change per PG made while a rebuild reads the database; empty means removed.
+    // Guarded by the write lock, null when no rebuild is running.
+    private Map<UUID, Optional<PgTerms>> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        setChangedDuringRebuild(new HashMap<>());
+        State fresh = new State();
+
+        try {
+            for (PopularCity city : popularCityRepository.findAll()) {
+                fresh.addCityBoost(city.getCityName());
+            }
+            for (PgRepository.AutocompleteSource pg : pgRepository.findAutocompleteSources()) {
+                fresh.indexPg(pg.getId(), pg.getName(), pg.getSlug(), pg.getCity(), pg.getLandmark());
+            }
+        } catch (RuntimeException e) {
+            setChangedDuringRebuild(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // The snapshot may predate these changes, so apply them on top before swapping
+            changedDuringRebuild.forEach((pgId, terms) -> {
+                fresh.removePg(pgId);
+                terms.ifPresent(t -> fresh.indexPg(pgId, t.name(), t.slug(), t.city(), t.landmark()));
+            });
+            changedDuringRebuild = null;
+            state = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Autocomplete index built with {} terms in {} ms", fresh.entries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or replace the terms contributed by a PG
+     */
+    public void index(UUID pgId, String name, String slug, String city, String landmark) {
+        lock.writeLock().lock();
+        try {
+            state.removePg(pgId);
+            state.indexPg(pgId, name, slug, city, landmark);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(pgId, Optional.of(new PgTerms(name, slug, city, landmark)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the terms contributed by a PG
+     */
+    public void remove(UUID pgId) {
+        lock.writeLock().lock();
+        try {
+            state.removePg(pgId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(pgId, Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<AutocompleteSuggestion> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return state.suggest(normalized, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setChangedDuringRebuild(Map<UUID, Optional<PgTerms>> changes) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    /**
+     * Word-start suffixes of a normalized term: "sunrise comfort pg" -> [sunrise comfort pg, comfort pg, pg]
+     */
+    private static List<String> keysOf(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static final class State {
+        private final Node root = new Node();
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final Map<UUID, IndexedPg> pgs = new HashMap<>();
+
+        void addCityBoost(String cityName) {
+            Entry entry = acquire(TYPE_CITY, cityName, null, null);
+            if (entry != null) {
+                entry.boost = POPULAR_CITY_BOOST;
+                reweigh(entry);
+            }
+        }
+
+        void indexPg(UUID pgId, String name, String slug, String city, String landmark) {
+            List<Entry> contributed = new ArrayList<>(3);
+            addRef(contributed, acquire(TYPE_PG, name, pgId, slug));
+            addRef(contributed, acquire(TYPE_CITY, city, null, null));
+            addRef(contributed, acquire(TYPE_LOCALITY, landmark, null, null));
+            pgs.put(pgId, new IndexedPg(contributed));
+        }
+
+        void removePg(UUID pgId) {
+            IndexedPg previous = pgs.remove(pgId);
+            if (previous == null) {
+                return;
+            }
+            for (Entry entry : previous.entries()) {
+                entry.refCount--;
+                if (entry.weight() <= 0) {
+                    detach(entry);
+                } else {
+                    reweigh(entry);
+                }
+            }
+        }
+
+        private void addRef(List<Entry> contributed, Entry entry) {
+            if (entry != null) {
+                entry.refCount++;
+                reweigh(entry);
+                contributed.add(entry);
+            }
+        }
+
+        /**
+         * Find or create the entry for a term. PG names are kept per PG, cities and localities are shared.
+         */
+        private Entry acquire(String type, String text, UUID pgId, String slug) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return null;
+            }
+
+            String registryKey = pgId != null ? type + ":" + pgId : type + ":" + normalized;
+            Entry entry = entries.get(registryKey);
+            if (entry == null) {
+                entry = new Entry(registryKey, text.trim(), type, pgId, slug, keysOf(normalized));
+                entries.put(registryKey, entry);
+                for (String key : entry.keys) {
+                    root.descend(key, true).addEntry(entry);
+                }
+            }
+            return entry;
+        }
+
+        private void detach(Entry entry) {
+            entries.remove(entry.registryKey);
+            for (String key : entry.keys) {
+                List<Node> path = path(key);
+                path.get(path.size() - 1).removeEntry(entry);
+                recompute(path, key);
+            }
+        }
+
+        private void reweigh(Entry entry) {
+            for (String key : entry.keys) {
+                recompute(path(key), key);
+            }
+        }
+
+        private List<Node> path(String key) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.child(key.charAt(i));
+                path.add(node);
+            }
+            return path;
+        }
+
+        // Recompute subtree max weights bottom-up and prune emptied nodes
+        private void recompute(List<Node> path, String key) {
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+                node.recomputeMaxWeight();
+                if (i > 0 && node.isEmpty()) {
+                    path.get(i - 1).removeChild(key.charAt(i - 1));
+                }
+            }
+        }
+
+        List<AutocompleteSuggestion> suggest(String query, int limit) {
+            Map<Node, Boolean> starts = new HashMap<>();
+            collectStarts(root, query, 0, false, query.length() >= MIN_FUZZY_LENGTH, starts);
+
+            PriorityQueue<Candidate> queue = new PriorityQueue<>();
+            starts.forEach((node, edited) -> queue.add(new Candidate(node, null, node.maxWeight * factor(edited), edited)));
+
+            Set<Entry> seen = new HashSet<>();
+            List<AutocompleteSuggestion> results = new ArrayList<>(limit);
+            while (!queue.isEmpty() && results.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.entry() != null) {
+                    if (seen.add(candidate.entry())) {
+                        results.add(candidate.entry().toSuggestion());
+                    }
+                    continue;
+                }
+
+                double factor = factor(candidate.edited());
+                Node node = candidate.node();
+                for (Entry entry : node.entries) {
+                    queue.add(new Candidate(null, entry, entry.weight() * factor, candidate.edited()));
+                }
+                for (Node child : node.children) {
+                    queue.add(new Candidate(child, null, child.maxWeight * factor, candidate.edited()));
+                }
+            }
+            return results;
+        }
+
+        /**
+         * Walk the trie along the query, allowing at most one edit when fuzzy matching is enabled.
+         * Every node reached at the end of the query roots a set of completions.
+         */
+        private void collectStarts(Node node, String query, int pos, boolean edited, boolean fuzzy, Map<Node, Boolean> starts) {
+            if (pos == query.length()) {
+                starts.merge(node, edited, (a, b) -> a && b);
+                return;
+            }
+
+            char c = query.charAt(pos);
+            Node next = node.child(c);
+            if (next != null) {
+                collectStarts(next, query, pos + 1, edited, fuzzy, starts);
+            }
+            if (!fuzzy || edited) {
+                return;
+            }
+
+            for (int i = 0; i < node.keys.length; i++) {
+                Node child = node.children[i];
+                // Substitution
+                if (node.keys[i] != c) {
+                    collectStarts(child, query, pos + 1, true, true, starts);
+                }
+                // Character missing from the query
+                collectStarts(child, query, pos, true, true, starts);
+            }
+            // Extra character in the query
+            collectStarts(node, query, pos + 1, true, true, starts);
+            // Transposition of two adjacent characters
+            if (pos + 1 < query.length()) {
+                Node swapped = node.child(query.charAt(pos + 1));
+                if (swapped != null && swapped.child(c) != null) {
+                    collectStarts(swapped.child(c), query, pos + 2, true, true, starts);
+                }
+            }
+        }
+
+        private static double factor(boolean edited) {
+            return edited ? FUZZY_FACTOR : 1.0;
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Sorted child labels and their nodes; arrays keep the trie compact
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private List<Entry> entries = Collections.emptyList();
+        private int maxWeight;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node descend(String key, boolean create) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                Node next = node.child(key.charAt(i));
+                if (next == null && create) {
+                    next = node.addChild(key.charAt(i));
+                }
+                node = next;
+            }
+            return node;
+        }
+
+        private Node addChild(char c) {
+            int insertAt = -(Arrays.binarySearch(keys, c) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void addEntry(Entry entry) {
+            if (entries.isEmpty()) {
+                entries = new ArrayList<>(1);
+            }
+            entries.add(entry);
+        }
+
+        void removeEntry(Entry entry) {
+            entries.remove(entry);
+        }
+
+        void recomputeMaxWeight() {
+            int max = 0;
+            for (Entry entry : entries) {
+                max = Math.max(max, entry.weight());
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty() && children.length == 0;
+        }
+    }
+
+    private static final class Entry {
+        private final String registryKey;
+        private final String text;
+        private final String type;
+        private final UUID pgId;
+        private final String slug;
+        private final List<String> keys;
+        private int refCount;
+        private int boost;
+
+        Entry(String registryKey, String text, String type, UUID pgId, String slug, List<String> keys) {
+            this.registryKey = registryKey;
+            this.text = text;
+            this.type = type;
+            this.pgId = pgId;
+            this.slug = slug;
+            this.keys = keys;
+        }
+
+        int weight() {
+            return refCount + boost;
+        }
+
+        AutocompleteSuggestion toSuggestion() {
+            return AutocompleteSuggestion.builder()
+                    .text(text)
+                    .type(type)
+                    .pgId(pgId)
+                    .slug(slug)
+                    .build();
+        }
+    }
+
+    private record IndexedPg(List<Entry> entries) {
+    }
+
+    private record PgTerms(String name, String slug, String city, String landmark) {
+    }
+
+    private record Candidate(Node node, Entry entry, double score, boolean edited) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            int byScore = Double.compare(other.score, score);
+            if (byScore != 0) {
+                return byScore;
+            }
+            // On ties prefer concrete terms over deeper subtrees
+            return Boolean.compare(other.entry != null, entry != null);
+        }
+    }
+}
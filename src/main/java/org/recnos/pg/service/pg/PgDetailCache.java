@@ -0,0 +1,241 @@
+package org.recnos.pg.service.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.constants.CacheConstants;
+import org.recnos.pg.model.dto.response.pg.PgDetailResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.recnos.pg.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache of PG detail responses: a bounded in-process Caffeine cache (L1) in front of
+ * an optional shared Redis cache (L2) holding the serialized response.
+ * Slugs are immutable, so they are cached as a separate slug -> id mapping and every invalidation
+ * is keyed by PG id alone; the mapping expires like the detail and is dropped when the PG is deleted. Evictions are broadcast over Redis pub/sub so every node drops its L1 copy.
+ * Redis errors are logged and treated as misses; the database stays the source of truth.
+ * Concurrent misses for one key share a single load, and with stale-while-revalidate enabled an
+ * entry past the refresh threshold keeps being served while one background load replaces it.
+ */
+@Slf4j
+@Component
+public class PgDetailCache {
+
+    private final Cache<UUID, Entry> details = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.PG_DETAIL_LOCAL_MAX_ENTRIES)
+            .expireAfterWrite(CacheConstants.PG_DETAIL_LOCAL_TTL)
+            .build();
+
+    private final Cache<String, UUID> slugs = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.PG_DETAIL_LOCAL_MAX_ENTRIES)
+            .expireAfterWrite(CacheConstants.PG_DETAIL_LOCAL_TTL)
+            .build();
+
+    private final SingleFlight<UUID, PgDetailResponse> detailLoads = new SingleFlight<>();
+    private final SingleFlight<String, UUID> slugLoads = new SingleFlight<>();
+
+    // Bumped on every eviction; a load that raced an eviction returns its result without caching it
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final boolean redisEnabled;
+    private final boolean staleWhileRevalidate;
+    private final Executor refreshExecutor;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    public PgDetailCache(@Value("${cache.redis.enabled:false}") boolean redisEnabled,
+                         @Value("${cache.pg-detail.stale-while-revalidate:true}") boolean staleWhileRevalidate,
+                         @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                         ObjectProvider<StringRedisTemplate> redisTemplate,
+                         ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                         ObjectMapper objectMapper) {
+        this.redisEnabled = redisEnabled;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.refreshExecutor = refreshExecutor;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!redisEnabled) {
+            return;
+        }
+        listenerContainer.ifAvailable(container -> container.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CacheConstants.PG_INVALIDATION_CHANNEL)));
+    }
+
+    public PgDetailResponse getById(UUID id, Function<UUID, PgDetailResponse> loader) {
+        Entry entry = details.getIfPresent(id);
+        if (entry == null) {
+            return detailLoads.load(id, key -> loadAndStore(key, loader, true));
+        }
+
+        if (staleWhileRevalidate && entry.isOlderThan(CacheConstants.PG_DETAIL_REFRESH_AFTER)) {
+            // Skip Redis: it holds the same copy this node loaded or a later one of the same age
+            detailLoads.loadAsync(id, key -> loadAndStore(key, loader, false), refreshExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Background refresh of PG {} failed: {}", id, e.getMessage());
+                        return null;
+                    });
+        }
+        return entry.response();
+    }
+
+    public PgDetailResponse getBySlug(String slug, Function<String, UUID> resolver, Function<UUID, PgDetailResponse> loader) {
+        UUID id = slugs.getIfPresent(slug);
+        if (id == null) {
+            id = slugLoads.load(slug, key -> resolveSlug(key, resolver));
+        }
+        return getById(id, loader);
+    }
+
+    /**
+     * Drop the cached detail of a PG on this node, in Redis and on every other node
+     */
+    public void evict(UUID id) {
+        evictions.incrementAndGet();
+        details.invalidate(id);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            StringRedisTemplate redis = redisTemplate.getObject();
+            redis.delete(CacheConstants.PG_DETAIL_KEY_PREFIX + id);
+            redis.convertAndSend(CacheConstants.PG_INVALIDATION_CHANNEL, id.toString());
+        } catch (Exception e) {
+            log.warn("Failed to invalidate PG {} in Redis: {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop a deleted PG: its detail everywhere, and its slug mapping on this node and in Redis.
+     * Other nodes drop their slug mapping when it expires.
+     */
+    public void evictDeleted(UUID id, String slug) {
+        evict(id);
+        if (slug == null) {
+            return;
+        }
+        slugs.invalidate(slug);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().delete(CacheConstants.PG_SLUG_KEY_PREFIX + slug);
+        } catch (Exception e) {
+            log.warn("Failed to delete slug {} from Redis: {}", slug, e.getMessage());
+        }
+    }
+
+    // Helper methods
+    private PgDetailResponse loadAndStore(UUID id, Function<UUID, PgDetailResponse> loader, boolean tryRemote) {
+        long generation = evictions.get();
+        PgDetailResponse response = tryRemote ? readRemote(id) : null;
+        if (response == null) {
+            response = loader.apply(id);
+            if (generation == evictions.get()) {
+                writeRemote(response);
+            }
+        }
+        if (generation == evictions.get()) {
+            details.put(id, new Entry(response, System.nanoTime()));
+        }
+        return response;
+    }
+
+    private UUID resolveSlug(String slug, Function<String, UUID> resolver) {
+        UUID id = readRemoteSlug(slug);
+        if (id == null) {
+            id = resolver.apply(slug);
+            writeRemoteSlug(slug, id);
+        }
+        slugs.put(slug, id);
+        return id;
+    }
+
+    private void evictLocal(String id) {
+        try {
+            UUID pgId = UUID.fromString(id);
+            evictions.incrementAndGet();
+            details.invalidate(pgId);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed PG cache invalidation message: {}", id);
+        }
+    }
+
+    private PgDetailResponse readRemote(UUID id) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.getObject().opsForValue().get(CacheConstants.PG_DETAIL_KEY_PREFIX + id);
+            return json != null ? objectMapper.readValue(json, PgDetailResponse.class) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read PG {} from Redis: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(PgDetailResponse response) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().opsForValue().set(CacheConstants.PG_DETAIL_KEY_PREFIX + response.getId(),
+                    objectMapper.writeValueAsString(response), CacheConstants.PG_DETAIL_REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write PG {} to Redis: {}", response.getId(), e.getMessage());
+        }
+    }
+
+    private UUID readRemoteSlug(String slug) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String id = redisTemplate.getObject().opsForValue().get(CacheConstants.PG_SLUG_KEY_PREFIX + slug);
+            return id != null ? UUID.fromString(id) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read slug {} from Redis: {}", slug, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemoteSlug(String slug, UUID id) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().opsForValue().set(CacheConstants.PG_SLUG_KEY_PREFIX + slug, id.toString(),
+                    CacheConstants.PG_DETAIL_REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to write slug {} to Redis: {}", slug, e.getMessage());
+        }
+    }
+
+    private record Entry(PgDetailResponse response, long loadedAt) {
+
+        boolean isOlderThan(Duration age) {
+            return System.nanoTime() - loadedAt > age.toNanos();
+        }
+    }
+}
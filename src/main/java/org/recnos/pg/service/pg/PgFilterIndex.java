@@ -0,0 +1,460 @@
+package org.recnos.pg.service.pg;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.repository.PgAmenityRepository;
+import org.recnos.pg.repository.PgFacetRepository;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.repository.PgRoomRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Read-optimized in-memory index of approved PGs for anonymous filter browsing.
+ * Every PG gets a dense doc id; each attribute value (city, state, gender, occupancy, furnishing,
+ * food, amenity, room price band) owns a bitmap over those ids, and sort keys and room data live
+ * in primitive column arrays. A filter query is a handful of bitmap intersections followed by a
+ * top-k selection, so only the final page of ids needs to be hydrated from PostgreSQL.
+ * Changes that land while a rebuild is reading the database are replayed onto the new state.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgFilterIndex {
+
+    // Room prices are banded in 1000 rupee steps; the last band is open-ended
+    private static final long PRICE_BAND_WIDTH_PAISE = 1000 * 100L;
+    private static final int PRICE_BAND_COUNT = 50;
+    private static final BigDecimal MAX_PAISE = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final PgRepository pgRepository;
+    private final PgRoomRepository pgRoomRepository;
+    private final PgAmenityRepository pgAmenityRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile State state; // null until the first build completes
+    // Latest change per PG made while a rebuild reads the database; empty means removed.
+    // Guarded by the write lock, null when no rebuild is running.
+    private Map<UUID, Optional<Doc>> changedDuringRebuild;
+
+    /**
+     * One page of matching PG ids in (createdAt DESC, id DESC) order, with facet counts when requested
+     */
+    public record Result(List<UUID> ids, Instant lastCreatedAt, boolean hasMore, long total,
+                         Map<String, Map<String, Long>> facets) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        setChangedDuringRebuild(new HashMap<>());
+
+        List<PgRepository.FilterSource> sources;
+        State fresh = new State();
+        try {
+            sources = pgRepository.findFilterSources();
+            Set<UUID> approvedIds = sources.stream().map(PgRepository.FilterSource::getId).collect(Collectors.toSet());
+
+            Map<UUID, List<PgRoomRepository.RoomSummary>> roomsByPg = pgRoomRepository.findAllRoomSummaries().stream()
+                    .filter(room -> approvedIds.contains(room.getPgId()))
+                    .collect(Collectors.groupingBy(PgRoomRepository.RoomSummary::getPgId));
+            Map<UUID, List<UUID>> amenitiesByPg = pgAmenityRepository.findAllAmenityLinks().stream()
+                    .filter(link -> approvedIds.contains(link.getPgId()))
+                    .collect(Collectors.groupingBy(PgAmenityRepository.AmenityLink::getPgId,
+                            Collectors.mapping(PgAmenityRepository.AmenityLink::getAmenityId, Collectors.toList())));
+
+            for (PgRepository.FilterSource source : sources) {
+                fresh.add(toDoc(source,
+                        roomsByPg.getOrDefault(source.getId(), List.of()),
+                        amenitiesByPg.getOrDefault(source.getId(), List.of())));
+            }
+        } catch (RuntimeException e) {
+            setChangedDuringRebuild(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // The snapshot may predate these changes, so apply them on top before swapping
+            changedDuringRebuild.forEach((pgId, doc) -> {
+                fresh.remove(pgId);
+                doc.ifPresent(fresh::add);
+            });
+            changedDuringRebuild = null;
+            state = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Filter index built with {} PGs in {} ms", sources.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reload a single PG from the database; drops it when it is no longer approved
+     */
+    public void refresh(UUID pgId) {
+        Optional<Doc> doc = pgRepository.findFilterSourceById(pgId)
+                .map(source -> toDoc(source,
+                        pgRoomRepository.findRoomSummariesByPgId(pgId),
+                        pgAmenityRepository.findAmenityIdsByPgId(pgId)));
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(pgId, doc);
+            }
+            if (state == null) {
+                return;
+            }
+            state.remove(pgId);
+            doc.ifPresent(state::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID pgId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(pgId, Optional.empty());
+            }
+            if (state != null) {
+                state.remove(pgId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index can answer this filter: it must be built and holds approved PGs only
+     */
+    public boolean canServe(PgFilterRequest filter) {
+        return state != null
+                && (filter.getStatus() == null || AppConstants.PG_STATUS_APPROVED.equals(filter.getStatus()));
+    }
+
+    public Result query(PgFilterRequest filter, Instant afterCreatedAt, UUID afterId, int limit, boolean withFacets) {
+        lock.readLock().lock();
+        try {
+            State current = state;
+            BitSet matches = current.match(filter);
+            List<Integer> page = current.topAfter(matches, afterCreatedAt, afterId, limit + 1);
+
+            boolean hasMore = page.size() > limit;
+            if (hasMore) {
+                page = page.subList(0, limit);
+            }
+
+            List<UUID> ids = page.stream().map(doc -> current.docs[doc].id()).collect(Collectors.toList());
+            Instant lastCreatedAt = page.isEmpty() ? null : current.docs[page.get(page.size() - 1)].createdAt();
+            Map<String, Map<String, Long>> facets = withFacets ? current.facets(matches) : null;
+
+            return new Result(ids, lastCreatedAt, hasMore, matches.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+    private void setChangedDuringRebuild(Map<UUID, Optional<Doc>> changes) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Doc toDoc(PgRepository.FilterSource source, List<PgRoomRepository.RoomSummary> rooms, List<UUID> amenityIds) {
+        long[] roomPrices = new long[rooms.size()];
+        int[] roomBeds = new int[rooms.size()];
+        for (int i = 0; i < rooms.size(); i++) {
+            PgRoomRepository.RoomSummary room = rooms.get(i);
+            roomPrices[i] = room.getPricePerMonth() != null ? toPaise(room.getPricePerMonth(), RoundingMode.HALF_UP) : -1;
+            roomBeds[i] = room.getAvailableBeds() != null ? room.getAvailableBeds() : 0;
+        }
+
+        return new Doc(source.getId(), source.getCity(), source.getState(), source.getGenderType(),
+                source.getOccupancyType(), source.getFurnishingType(), source.getFoodAvailable(), source.getFoodType(),
+                priceRange(source.getMinPrice()), source.getCreatedAt(), Set.copyOf(amenityIds), roomPrices, roomBeds);
+    }
+
+    private static long toPaise(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValueExact();
+    }
+
+    // Filter bounds come from query parameters: saturate instead of overflowing, and treat
+    // negative bounds as 0 since no price is negative
+    private static long boundToPaise(BigDecimal amount, RoundingMode rounding) {
+        BigDecimal paise = amount.movePointRight(2).setScale(0, rounding);
+        if (paise.signum() <= 0) {
+            return 0;
+        }
+        return paise.compareTo(MAX_PAISE) >= 0 ? Long.MAX_VALUE : paise.longValue();
+    }
+
+    private static int priceBand(long paise) {
+        return (int) Math.min(PRICE_BAND_COUNT - 1, paise / PRICE_BAND_WIDTH_PAISE);
+    }
+
+    // Same labels as the SQL facet query: 0-5000, 5000-10000, ..., 20000+
+    private static String priceRange(BigDecimal minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        int lower = 0;
+        for (int upper : AppConstants.PRICE_RANGE_BOUNDS) {
+            if (minPrice.compareTo(BigDecimal.valueOf(upper)) < 0) {
+                return lower + "-" + upper;
+            }
+            lower = upper;
+        }
+        return lower + "+";
+    }
+
+    private static long toMicros(Instant instant) {
+        return instant == null ? Long.MIN_VALUE : instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    // PostgreSQL orders uuid bytewise, i.e. as two unsigned longs
+    private static int compareUuid(UUID a, UUID b) {
+        int byMost = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byMost != 0 ? byMost : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private record Doc(UUID id, String city, String state, String genderType, String occupancyType,
+                       String furnishingType, Boolean foodAvailable, String foodType, String priceRange,
+                       Instant createdAt, Set<UUID> amenityIds, long[] roomPrices, int[] roomBeds) {
+
+        // A single room must satisfy price range and free beds together, like PgSpecification.hasRoom
+        boolean hasRoom(boolean checkPrice, long minPaise, long maxPaise, int minBeds) {
+            for (int i = 0; i < roomPrices.length; i++) {
+                boolean priceMatches = !checkPrice || (roomPrices[i] >= 0 && roomPrices[i] >= minPaise && roomPrices[i] <= maxPaise);
+                if (priceMatches && roomBeds[i] >= minBeds) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Set<Integer> priceBands() {
+            Set<Integer> bands = new HashSet<>();
+            for (long price : roomPrices) {
+                if (price >= 0) {
+                    bands.add(priceBand(price));
+                }
+            }
+            return bands;
+        }
+    }
+
+    private static final class State {
+        private final Map<UUID, Integer> docsById = new HashMap<>();
+        private final Deque<Integer> freeDocs = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private Doc[] docs = new Doc[1024];
+        private long[] createdAtMicros = new long[1024];
+        private int highWater;
+
+        private final Dimension<String> cities = new Dimension<>();
+        private final Dimension<String> states = new Dimension<>();
+        private final Dimension<String> genderTypes = new Dimension<>();
+        private final Dimension<String> occupancyTypes = new Dimension<>();
+        private final Dimension<String> furnishingTypes = new Dimension<>();
+        private final Dimension<Boolean> foodAvailable = new Dimension<>();
+        private final Dimension<String> foodTypes = new Dimension<>();
+        private final Dimension<String> priceRanges = new Dimension<>();
+        private final Dimension<UUID> amenities = new Dimension<>();
+        private final Dimension<Integer> priceBands = new Dimension<>();
+
+        void add(Doc doc) {
+            int id = freeDocs.isEmpty() ? highWater++ : freeDocs.pop();
+            if (id >= docs.length) {
+                int capacity = Math.max(docs.length * 2, id + 1);
+                docs = Arrays.copyOf(docs, capacity);
+                createdAtMicros = Arrays.copyOf(createdAtMicros, capacity);
+            }
+
+            docs[id] = doc;
+            createdAtMicros[id] = toMicros(doc.createdAt());
+            docsById.put(doc.id(), id);
+            live.set(id);
+            apply(doc, id, true);
+        }
+
+        void remove(UUID pgId) {
+            Integer id = docsById.remove(pgId);
+            if (id == null) {
+                return;
+            }
+            apply(docs[id], id, false);
+            live.clear(id);
+            docs[id] = null;
+            freeDocs.push(id);
+        }
+
+        private void apply(Doc doc, int id, boolean set) {
+            cities.update(doc.city(), id, set);
+            states.update(doc.state(), id, set);
+            genderTypes.update(doc.genderType(), id, set);
+            occupancyTypes.update(doc.occupancyType(), id, set);
+            furnishingTypes.update(doc.furnishingType(), id, set);
+            foodAvailable.update(doc.foodAvailable(), id, set);
+            foodTypes.update(doc.foodType(), id, set);
+            priceRanges.update(doc.priceRange(), id, set);
+            doc.amenityIds().forEach(amenityId -> amenities.update(amenityId, id, set));
+            doc.priceBands().forEach(band -> priceBands.update(band, id, set));
+        }
+
+        BitSet match(PgFilterRequest filter) {
+            BitSet result = (BitSet) live.clone();
+            cities.intersect(result, filter.getCity());
+            states.intersect(result, filter.getState());
+            genderTypes.intersect(result, filter.getGenderType());
+            occupancyTypes.intersect(result, filter.getOccupancyType());
+            furnishingTypes.intersect(result, filter.getFurnishingType());
+            foodAvailable.intersect(result, filter.getFoodAvailable());
+            foodTypes.intersect(result, filter.getFoodType());
+
+            if (filter.getAmenityIds() != null) {
+                filter.getAmenityIds().forEach(amenityId -> amenities.intersect(result, amenityId));
+            }
+
+            if (filter.getMinPrice() != null || filter.getMaxPrice() != null || filter.getMinAvailableBeds() != null) {
+                long minPaise = filter.getMinPrice() != null ? boundToPaise(filter.getMinPrice(), RoundingMode.CEILING) : 0;
+                long maxPaise = filter.getMaxPrice() != null ? boundToPaise(filter.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+                int minBeds = filter.getMinAvailableBeds() != null ? filter.getMinAvailableBeds() : 0;
+
+                boolean checkPrice = filter.getMinPrice() != null || filter.getMaxPrice() != null;
+
+                // Coarse cut with the band bitmaps, then an exact per-room check on the survivors
+                if (checkPrice) {
+                    BitSet inBands = new BitSet();
+                    for (int band = priceBand(minPaise); band <= priceBand(maxPaise); band++) {
+                        BitSet bits = priceBands.get(band);
+                        if (bits != null) {
+                            inBands.or(bits);
+                        }
+                    }
+                    result.and(inBands);
+                }
+                for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+                    if (!docs[id].hasRoom(checkPrice, minPaise, maxPaise, minBeds)) {
+                        result.clear(id);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Up to k matching docs strictly after the cursor, in (createdAt DESC, id DESC) order
+         */
+        List<Integer> topAfter(BitSet matches, Instant afterCreatedAt, UUID afterId, int k) {
+            long cursorMicros = toMicros(afterCreatedAt);
+            // Max-heap on the listing order: the head is the last of the current top k
+            PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, (a, b) -> order(b, a));
+
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                if (afterCreatedAt != null && !isAfter(id, cursorMicros, afterId)) {
+                    continue;
+                }
+                heap.offer(id);
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+
+            List<Integer> page = new ArrayList<>(heap);
+            page.sort(this::order);
+            return page;
+        }
+
+        private int order(int a, int b) {
+            int byCreatedAt = Long.compare(createdAtMicros[b], createdAtMicros[a]);
+            return byCreatedAt != 0 ? byCreatedAt : compareUuid(docs[b].id(), docs[a].id());
+        }
+
+        private boolean isAfter(int id, long cursorMicros, UUID cursorId) {
+            long micros = createdAtMicros[id];
+            return micros < cursorMicros || (micros == cursorMicros && compareUuid(docs[id].id(), cursorId) < 0);
+        }
+
+        Map<String, Map<String, Long>> facets(BitSet matches) {
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put(PgFacetRepository.FACET_GENDER_TYPE, genderTypes.counts(matches));
+            facets.put(PgFacetRepository.FACET_OCCUPANCY_TYPE, occupancyTypes.counts(matches));
+            facets.put(PgFacetRepository.FACET_FURNISHING_TYPE, furnishingTypes.counts(matches));
+            facets.put(PgFacetRepository.FACET_FOOD_TYPE, foodTypes.counts(matches));
+            facets.put(PgFacetRepository.FACET_PRICE_RANGE, priceRanges.counts(matches));
+            facets.put(PgFacetRepository.FACET_AMENITY, amenities.counts(matches));
+            return facets;
+        }
+    }
+
+    /**
+     * Bitmaps of one attribute, keyed by value
+     */
+    private static final class Dimension<K> {
+        private final Map<K, BitSet> bitmaps = new HashMap<>();
+
+        void update(K key, int id, boolean set) {
+            if (key == null) {
+                return;
+            }
+            if (set) {
+                bitmaps.computeIfAbsent(key, k -> new BitSet()).set(id);
+                return;
+            }
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                bits.clear(id);
+                if (bits.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+
+        BitSet get(K key) {
+            return bitmaps.get(key);
+        }
+
+        // Absent filter values leave the result untouched; unknown values match nothing
+        void intersect(BitSet result, K key) {
+            if (key == null || (key instanceof String text && text.isBlank())) {
+                return;
+            }
+            BitSet bits = bitmaps.get(key);
+            if (bits == null) {
+                result.clear();
+            } else {
+                result.and(bits);
+            }
+        }
+
+        Map<String, Long> counts(BitSet within) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            bitmaps.forEach((key, bits) -> {
+                BitSet overlap = (BitSet) bits.clone();
+                overlap.and(within);
+                int count = overlap.cardinality();
+                if (count > 0) {
+                    counts.put(key.toString(), (long) count);
+                }
+            });
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.recnos.pg.service.pg;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.model.dto.response.pg.MapMarker;
+import org.recnos.pg.repository.PgRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory geohash index of approved PGs for map viewport queries.
+ * Points are keyed by a 52-bit interleaved (Z-order) geohash in a sorted map, so every
+ * geohash cell is a contiguous key range. A viewport query walks the cells covering the
+ * box at a precision derived from the zoom level and returns one marker per non-empty cell.
+ * Changes that land while a rebuild is reading the database are replayed onto the new maps.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgGeoIndex {
+
+    private static final int BITS_PER_AXIS = 26;
+    private static final long AXIS_CELLS = 1L << BITS_PER_AXIS;
+
+    // Roughly a 4x4 grid of clusters per 256px map tile
+    private static final int ZOOM_TO_BITS_OFFSET = 2;
+    private static final int MAX_CELLS = 1024;
+
+    private final PgRepository pgRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeMap<Long, List<GeoPoint>> pointsByHash = new TreeMap<>();
+    private Map<UUID, GeoPoint> pointsById = new HashMap<>();
+    // Latest change per PG made while a rebuild reads the database; empty means removed.
+    // Guarded by the write lock, null when no rebuild is running.
+    private Map<UUID, Optional<GeoPoint>> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        setChangedDuringRebuild(new HashMap<>());
+        TreeMap<Long, List<GeoPoint>> freshByHash = new TreeMap<>();
+        Map<UUID, GeoPoint> freshById = new HashMap<>();
+
+        try {
+            for (PgRepository.GeoSource source : pgRepository.findGeoSources()) {
+                add(freshByHash, freshById, toPoint(source));
+            }
+        } catch (RuntimeException e) {
+            setChangedDuringRebuild(null);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // The snapshot may predate these changes, so apply them on top before swapping
+            changedDuringRebuild.forEach((pgId, point) -> {
+                remove(freshByHash, freshById, pgId);
+                point.ifPresent(p -> add(freshByHash, freshById, p));
+            });
+            changedDuringRebuild = null;
+            pointsByHash = freshByHash;
+            pointsById = freshById;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Geo index built with {} PGs in {} ms", freshById.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or move a PG on the map
+     */
+    public void index(PgRepository.GeoSource source) {
+        GeoPoint point = toPoint(source);
+        lock.writeLock().lock();
+        try {
+            remove(pointsByHash, pointsById, point.id());
+            add(pointsByHash, pointsById, point);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(point.id(), Optional.of(point));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a PG from the map
+     */
+    public void remove(UUID pgId) {
+        lock.writeLock().lock();
+        try {
+            remove(pointsByHash, pointsById, pgId);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(pgId, Optional.empty());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Clustered markers for a viewport. Cells are coarsened further if the box would cover
+     * more than {@value #MAX_CELLS} cells at the zoom-derived precision.
+     */
+    public List<MapMarker> query(double minLat, double minLng, double maxLat, double maxLng, int zoom, String genderType) {
+        int bits = Math.max(1, Math.min(BITS_PER_AXIS, zoom + ZOOM_TO_BITS_OFFSET));
+        int shift = BITS_PER_AXIS - bits;
+
+        long x0 = lngCell(minLng) >> shift;
+        long x1 = lngCell(maxLng) >> shift;
+        long y0 = latCell(minLat) >> shift;
+        long y1 = latCell(maxLat) >> shift;
+        while (bits > 1 && (x1 - x0 + 1) * (y1 - y0 + 1) > MAX_CELLS) {
+            bits--;
+            shift++;
+            x0 >>= 1;
+            x1 >>= 1;
+            y0 >>= 1;
+            y1 >>= 1;
+        }
+
+        List<MapMarker> markers = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long x = x0; x <= x1; x++) {
+                for (long y = y0; y <= y1; y++) {
+                    long from = interleave(x, y) << (2 * shift);
+                    long to = (interleave(x, y) + 1) << (2 * shift);
+
+                    Cluster cluster = new Cluster();
+                    for (List<GeoPoint> points : pointsByHash.subMap(from, true, to, false).values()) {
+                        for (GeoPoint point : points) {
+                            if (point.latitude() >= minLat && point.latitude() <= maxLat
+                                    && point.longitude() >= minLng && point.longitude() <= maxLng
+                                    && (genderType == null || genderType.equalsIgnoreCase(point.genderType()))) {
+                                cluster.add(point);
+                            }
+                        }
+                    }
+                    if (cluster.count > 0) {
+                        markers.add(cluster.toMarker());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return markers;
+    }
+
+    // Helper methods
+    private void setChangedDuringRebuild(Map<UUID, Optional<GeoPoint>> changes) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(TreeMap<Long, List<GeoPoint>> byHash, Map<UUID, GeoPoint> byId, GeoPoint point) {
+        byId.put(point.id(), point);
+        byHash.computeIfAbsent(point.hash(), key -> new ArrayList<>(1)).add(point);
+    }
+
+    private static void remove(TreeMap<Long, List<GeoPoint>> byHash, Map<UUID, GeoPoint> byId, UUID pgId) {
+        GeoPoint previous = byId.remove(pgId);
+        if (previous == null) {
+            return;
+        }
+        List<GeoPoint> points = byHash.get(previous.hash());
+        if (points != null) {
+            points.removeIf(point -> point.id().equals(pgId));
+            if (points.isEmpty()) {
+                byHash.remove(previous.hash());
+            }
+        }
+    }
+
+    private static GeoPoint toPoint(PgRepository.GeoSource source) {
+        double latitude = source.getLatitude().doubleValue();
+        double longitude = source.getLongitude().doubleValue();
+        return new GeoPoint(source.getId(), latitude, longitude,
+                interleave(lngCell(longitude), latCell(latitude)), source.getMinPrice(), source.getGenderType());
+    }
+
+    private static long latCell(double latitude) {
+        return clampCell((long) Math.floor((latitude + 90.0) / 180.0 * AXIS_CELLS));
+    }
+
+    private static long lngCell(double longitude) {
+        return clampCell((long) Math.floor((longitude + 180.0) / 360.0 * AXIS_CELLS));
+    }
+
+    private static long clampCell(long cell) {
+        return Math.max(0, Math.min(AXIS_CELLS - 1, cell));
+    }
+
+    // Z-order: longitude bits in odd positions, latitude bits in even positions
+    private static long interleave(long x, long y) {
+        return (spread(x) << 1) | spread(y);
+    }
+
+    private static long spread(long v) {
+        v &= 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    private record GeoPoint(UUID id, double latitude, double longitude, long hash, BigDecimal minPrice, String genderType) {
+    }
+
+    private static final class Cluster {
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private BigDecimal minPrice;
+        private GeoPoint first;
+
+        void add(GeoPoint point) {
+            if (count == 0) {
+                first = point;
+            }
+            count++;
+            latitudeSum += point.latitude();
+            longitudeSum += point.longitude();
+            if (point.minPrice() != null && (minPrice == null || point.minPrice().compareTo(minPrice) < 0)) {
+                minPrice = point.minPrice();
+            }
+        }
+
+        MapMarker toMarker() {
+            MapMarker.MapMarkerBuilder marker = MapMarker.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .minPrice(minPrice);
+            if (count == 1) {
+                marker.pgId(first.id()).genderType(first.genderType());
+            }
+            return marker.build();
+        }
+    }
+}
@@ -1,4 +1,111 @@
-package org.recnos.pg.service.payment;
+package org.recnos.pg.service.pg;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.event.PgUpdatedEvent;
+import org.recnos.pg.exception.ResourceNotFoundException;
+import org.recnos.pg.mapper.PgMapper;
+import org.recnos.pg.model.dto.request.pg.PgRoomRequest;
+import org.recnos.pg.model.dto.response.pg.PgRoomDTO;
+import org.recnos.pg.model.entity.Pg;
+import org.recnos.pg.model.entity.PgRoom;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.repository.PgRoomRepository;
+import org.recnos.pg.security.PgOwnerGuard;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
 public class PgRoomService {
-}
\ No newline at end of file
+
+    private final PgRoomRepository pgRoomRepository;
+    private final PgRepository pgRepository;
+    private final PgMapper pgMapper;
+    private final PgOwnerGuard pgOwnerGuard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Get rooms of a PG
+    @Transactional(readOnly = true)
+    public List<PgRoomDTO> getRooms(UUID pgId) {
+        return pgRoomRepository.findByPgId(pgId).stream()
+                .map(pgMapper::toRoomDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Add a room to an existing PG
+    @Transactional
+    public PgRoomDTO addRoom(UUID pgId, PgRoomRequest request) {
+        Pg pg = pgOwnerGuard.requireOwnedPg(pgId);
+
+        PgRoom room = createRoom(pg, request);
+        pgRepository.refreshListingSummary(pgId);
+        eventPublisher.publishEvent(new PgUpdatedEvent(pgId));
+
+        return pgMapper.toRoomDTO(room);
+    }
+
+    // Update a room
+    @Transactional
+    public PgRoomDTO updateRoom(UUID pgId, UUID roomId, PgRoomRequest request) {
+        pgOwnerGuard.requireOwnedPg(pgId);
+        PgRoom room = findRoom(pgId, roomId);
+        applyRequest(room, request);
+        room.setUpdatedAt(Instant.now());
+
+        PgRoom updatedRoom = pgRoomRepository.save(room);
+        pgRepository.refreshListingSummary(pgId);
+        eventPublisher.publishEvent(new PgUpdatedEvent(pgId));
+
+        return pgMapper.toRoomDTO(updatedRoom);
+    }
+
+    // Delete a room
+    @Transactional
+    public void deleteRoom(UUID pgId, UUID roomId) {
+        pgOwnerGuard.requireOwnedPg(pgId);
+        PgRoom room = findRoom(pgId, roomId);
+        pgRoomRepository.delete(room);
+        pgRepository.refreshListingSummary(pgId);
+        eventPublisher.publishEvent(new PgUpdatedEvent(pgId));
+    }
+
+    /**
+     * Persist a new room for the given PG. Callers are responsible for refreshing
+     * the PG listing summary once all room writes in the transaction are done.
+     */
+    @Transactional
+    public PgRoom createRoom(Pg pg, PgRoomRequest request) {
+        PgRoom room = new PgRoom();
+        room.setPg(pg);
+        applyRequest(room, request);
+        room.setCreatedAt(Instant.now());
+        room.setUpdatedAt(Instant.now());
+        return pgRoomRepository.save(room);
+    }
+
+    // Helper methods
+    private PgRoom findRoom(UUID pgId, UUID roomId) {
+        return pgRoomRepository.findByIdAndPgId(roomId, pgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
+    }
+
+    private void applyRequest(PgRoom room, PgRoomRequest request) {
+        room.setRoomType(request.getRoomType());
+        room.setBedsPerRoom(request.getBedsPerRoom());
+        room.setTotalRooms(request.getTotalRooms());
+        room.setAvailableBeds(request.getAvailableBeds());
+        room.setPricePerBed(request.getPricePerBed());
+        room.setPricePerMonth(request.getPricePerMonth());
+        room.setRoomSizeSqft(request.getRoomSizeSqft());
+        room.setHasAttachedBathroom(request.getHasAttachedBathroom() != null ? request.getHasAttachedBathroom() : false);
+        room.setHasBalcony(request.getHasBalcony() != null ? request.getHasBalcony() : false);
+        room.setHasAc(request.getHasAc() != null ? request.getHasAc() : false);
+        room.setDescription(request.getDescription());
+    }
+}
@@ -1,4 +1,248 @@
-package org.recnos.pg.service.payment;
+package org.recnos.pg.service.pg;
 
+import lombok.RequiredArgsConstructor;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.exception.BadRequestException;
+import org.recnos.pg.mapper.PgMapper;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.model.dto.response.PaginatedResponse;
+import org.recnos.pg.model.dto.response.pg.AutocompleteSuggestion;
+import org.recnos.pg.model.dto.response.pg.MapMarker;
+import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.model.dto.response.pg.PgSearchResponse;
+import org.recnos.pg.model.entity.Pg;
+import org.recnos.pg.repository.PgFacetRepository;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.util.CursorUtil;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
 public class PgSearchService {
-}
\ No newline at end of file
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final double MAX_RADIUS_KM = 50;
+    private static final int MAX_ZOOM = 22;
+
+    private final PgRepository pgRepository;
+    private final PgService pgService;
+    private final PgMapper pgMapper;
+    private final PgAutocompleteIndex autocompleteIndex;
+    private final PgGeoIndex geoIndex;
+    private final PgFilterIndex filterIndex;
+
+    /**
+     * Ranked full-text search over name, city, address and description of approved PGs.
+     * Results are ordered by relevance and paginated with an opaque (rank, id) cursor.
+     */
+    @Transactional(readOnly = true)
+    public PgSearchResponse search(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page exists
+        List<PgRepository.SearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = pgRepository.searchByText(query.trim(), limit + 1);
+        } else {
+            String[] parts = CursorUtil.decode(cursor, 2);
+            hits = pgRepository.searchByTextAfter(query.trim(), parseRank(parts[0]), parseId(parts[1]), limit + 1);
+        }
+
+        boolean hasMore = hits.size() > limit;
+        List<PgRepository.SearchHit> pageHits = hasMore ? hits.subList(0, limit) : hits;
+
+        String nextCursor = null;
+        if (hasMore) {
+            PgRepository.SearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = CursorUtil.encode(last.getRank(), last.getId());
+        }
+
+        return PgSearchResponse.builder()
+                .results(hydrate(pageHits.stream().map(PgRepository.SearchHit::getId).collect(Collectors.toList())))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Filtered listing for the search page with facet counts for the sidebar, newest first.
+     * Approved listings are answered from the in-memory bitmap index and only the page is hydrated;
+     * otherwise (index not built yet, other statuses) the Specification query and one GROUPING SETS
+     * facet query are used. Facets are only returned with the first page.
+     * Not transactional: the fallback scroll is coalesced through SingleFlight and opens its own
+     * transaction, so waiters must not already hold a connection.
+     */
+    public PgSearchResponse filterWithFacets(PgFilterRequest filter, String cursor, int size) {
+        if (filter.getStatus() == null) {
+            filter.setStatus(AppConstants.PG_STATUS_APPROVED);
+        }
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        if (filterIndex.canServe(filter)) {
+            Instant afterCreatedAt = null;
+            UUID afterId = null;
+            if (!firstPage) {
+                String[] parts = CursorUtil.decode(cursor, 2);
+                afterCreatedAt = parseInstant(parts[0]);
+                afterId = parseId(parts[1]);
+            }
+
+            int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            PgFilterIndex.Result result = filterIndex.query(filter, afterCreatedAt, afterId, limit, firstPage);
+
+            return PgSearchResponse.builder()
+                    .results(hydrate(result.ids()))
+                    .nextCursor(result.hasMore()
+                            ? CursorUtil.encode(result.lastCreatedAt(), result.ids().get(result.ids().size() - 1))
+                            : null)
+                    .hasMore(result.hasMore())
+                    .facets(result.facets())
+                    .totalResults(firstPage ? result.total() : null)
+                    .build();
+        }
+
+        PaginatedResponse<PgListResponse> page = pgService.scrollFilteredPgs(filter, cursor, size, false);
+
+        PgSearchResponse.PgSearchResponseBuilder response = PgSearchResponse.builder()
+                .results(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .hasMore(page.getHasMore());
+
+        if (firstPage) {
+            Map<String, Map<String, Long>> facets = pgRepository.countFacets(filter);
+            Map<String, Long> total = facets.remove(PgFacetRepository.FACET_TOTAL);
+            response.facets(facets)
+                    .totalResults(total.getOrDefault(PgFacetRepository.FACET_TOTAL, 0L));
+        }
+        return response.build();
+    }
+
+    /**
+     * Approved PGs within radiusKm of a point, nearest first, using the GIST index on pgs.location.
+     * Paginated with an opaque (distance, id) cursor.
+     */
+    @Transactional(readOnly = true)
+    public PgSearchResponse nearby(double lat, double lng, double radiusKm, PgFilterRequest filter, String cursor, int size) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new BadRequestException("Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BadRequestException("Radius must be between 0 and " + (int) MAX_RADIUS_KM + " km");
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        double radiusMeters = radiusKm * 1000;
+
+        List<PgRepository.NearbyHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = pgRepository.findNearby(lat, lng, radiusMeters, filter, null, null, limit + 1);
+        } else {
+            String[] parts = CursorUtil.decode(cursor, 2);
+            hits = pgRepository.findNearby(lat, lng, radiusMeters, filter, parseDistance(parts[0]), parseId(parts[1]), limit + 1);
+        }
+
+        boolean hasMore = hits.size() > limit;
+        List<PgRepository.NearbyHit> pageHits = hasMore ? hits.subList(0, limit) : hits;
+
+        String nextCursor = null;
+        if (hasMore) {
+            PgRepository.NearbyHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = CursorUtil.encode(last.distance(), last.id());
+        }
+
+        List<PgListResponse> results = hydrate(pageHits.stream().map(PgRepository.NearbyHit::id).collect(Collectors.toList()));
+        Map<UUID, Double> distances = pageHits.stream()
+                .collect(Collectors.toMap(PgRepository.NearbyHit::id, PgRepository.NearbyHit::distance));
+        results.forEach(result -> result.setDistanceKm(Math.round(distances.get(result.getId()) / 10.0) / 100.0));
+
+        return PgSearchResponse.builder()
+                .results(results)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Clustered map markers for approved PGs inside a viewport, served from the in-memory geo index
+     */
+    public List<MapMarker> mapMarkers(double minLat, double minLng, double maxLat, double maxLng, int zoom, String genderType) {
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180 || minLat > maxLat || minLng > maxLng) {
+            throw new BadRequestException("Invalid viewport bounds");
+        }
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new BadRequestException("Zoom must be between 0 and " + MAX_ZOOM);
+        }
+        return geoIndex.query(minLat, minLng, maxLat, maxLng, zoom, genderType);
+    }
+
+    /**
+     * Prefix suggestions for the search box, served from the in-memory index.
+     * Tolerates one typo once the query is at least three characters long.
+     */
+    public List<AutocompleteSuggestion> autocomplete(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return autocompleteIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    // Helper methods
+    private List<PgListResponse> hydrate(List<UUID> ids) {
+        Map<UUID, Pg> pgsById = pgRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Pg::getId, Function.identity()));
+
+        // Preserve ranking order
+        return ids.stream()
+                .map(pgsById::get)
+                .filter(Objects::nonNull)
+                .map(pgMapper::toListResponse)
+                .collect(Collectors.toList());
+    }
+
+    private float parseRank(String value) {
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    private double parseDistance(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    private Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    private UUID parseId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
@@ -1,41 +1,69 @@
 package org.recnos.pg.service.pg;
 
 import lombok.RequiredArgsConstructor;
+import org.recnos.pg.event.PgContactClickedEvent;
+import org.recnos.pg.event.PgCreatedEvent;
+import org.recnos.pg.event.PgDeletedEvent;
+import org.recnos.pg.event.PgUpdatedEvent;
+import org.recnos.pg.exception.BadRequestException;
 import org.recnos.pg.exception.DuplicateResourceException;
 import org.recnos.pg.exception.ResourceNotFoundException;
 import org.recnos.pg.mapper.PgMapper;
 import org.recnos.pg.model.dto.request.pg.PgCreateRequest;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
 import org.recnos.pg.model.dto.request.pg.PgImageRequest;
 import org.recnos.pg.model.dto.request.pg.PgRoomRequest;
 import org.recnos.pg.model.dto.request.pg.PgUpdateRequest;
+import org.recnos.pg.model.dto.response.PaginatedResponse;
 import org.recnos.pg.model.dto.response.pg.PgDetailResponse;
+import org.recnos.pg.model.dto.response.pg.PgImageDTO;
 import org.recnos.pg.model.dto.response.pg.PgListResponse;
 import org.recnos.pg.model.entity.*;
 import org.recnos.pg.repository.*;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.recnos.pg.security.PgOwnerGuard;
+import org.recnos.pg.specification.PgSpecification;
+import org.recnos.pg.util.CursorUtil;
+import org.recnos.pg.util.SingleFlight;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class PgService {
 
+    // Newest first; id breaks ties so the keyset is unique
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Concurrent identical list requests share one query; waiters do not hold a connection
+    private final SingleFlight<String, Page<PgListResponse>> pageLoads = new SingleFlight<>();
+    private final SingleFlight<String, PaginatedResponse<PgListResponse>> scrollLoads = new SingleFlight<>();
+
     private final PgRepository pgRepository;
     private final PgRoomRepository pgRoomRepository;
     private final PgImageRepository pgImageRepository;
     private final PgAmenityRepository pgAmenityRepository;
     private final AmenityRepository amenityRepository;
     private final OwnerRepository ownerRepository;
+    private final PgRoomService pgRoomService;
+    private final PgOwnerGuard pgOwnerGuard;
     private final PgMapper pgMapper;
+    private final PgDetailCache pgDetailCache;
+    private final PgViewCounter pgViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Create PG
     @Transactional
@@ -123,8 +151,7 @@ public class PgService {
         List<PgRoom> rooms = new ArrayList<>();
         if (request.getRooms() != null && !request.getRooms().isEmpty()) {
             for (PgRoomRequest roomRequest : request.getRooms()) {
-                PgRoom room = createPgRoom(savedPg, roomRequest);
-                rooms.add(pgRoomRepository.save(room));
+                rooms.add(pgRoomService.createRoom(savedPg, roomRequest));
             }
         }
 
@@ -159,35 +186,29 @@ public class PgService {
             }
         }
 
+        // Denormalize price range, beds and primary image for list cards
+        if (!rooms.isEmpty() || !images.isEmpty()) {
+            pgRepository.refreshListingSummary(savedPg.getId());
+        }
+
+        // Keep the PostGIS point in step with latitude/longitude for radius search
+        pgRepository.syncLocation(savedPg.getId());
+
+        eventPublisher.publishEvent(new PgCreatedEvent(savedPg.getId()));
+
         return pgMapper.toDetailResponse(savedPg, rooms, images, pgAmenities);
     }
 
-    // Get PG by ID
-    @Transactional(readOnly = true)
+    // Get PG by ID - served from the detail cache; only misses touch the database
     public PgDetailResponse getPgById(UUID id) {
-        Pg pg = findById(id);
-        List<PgRoom> rooms = pgRoomRepository.findByPgId(id);
-        List<PgImage> images = pgImageRepository.findByPgIdOrderByDisplayOrderAsc(id);
-        List<PgAmenity> pgAmenities = pgAmenityRepository.findByPgId(id);
-
-        return pgMapper.toDetailResponse(pg, rooms, images, pgAmenities);
+        return pgDetailCache.getById(id, this::loadDetail);
     }
 
-    // Get PG by slug
-    @Transactional(readOnly = true)
+    // Get PG by slug - the public listing page, so the view is counted (flushed in batches by ViewCountScheduler)
     public PgDetailResponse getPgBySlug(String slug) {
-        Pg pg = pgRepository.findBySlug(slug)
-                .orElseThrow(() -> new ResourceNotFoundException("PG not found with slug: " + slug));
-
-        List<PgRoom> rooms = pgRoomRepository.findByPgId(pg.getId());
-        List<PgImage> images = pgImageRepository.findByPgIdOrderByDisplayOrderAsc(pg.getId());
-        List<PgAmenity> pgAmenities = pgAmenityRepository.findByPgId(pg.getId());
-
-        // Increment view count
-        pg.setViewCount(pg.getViewCount() + 1);
-        pgRepository.save(pg);
-
-        return pgMapper.toDetailResponse(pg, rooms, images, pgAmenities);
+        PgDetailResponse response = pgDetailCache.getBySlug(slug, this::findIdBySlug, this::loadDetail);
+        pgViewCounter.record(response.getId());
+        return response;
     }
 
     // Update PG
@@ -314,10 +335,16 @@ public class PgService {
         pg.setUpdatedAt(Instant.now());
         Pg updatedPg = pgRepository.save(pg);
 
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            pgRepository.syncLocation(id);
+        }
+
         List<PgRoom> rooms = pgRoomRepository.findByPgId(id);
         List<PgImage> images = pgImageRepository.findByPgIdOrderByDisplayOrderAsc(id);
         List<PgAmenity> pgAmenities = pgAmenityRepository.findByPgId(id);
 
+        eventPublisher.publishEvent(new PgUpdatedEvent(id));
+
         return pgMapper.toDetailResponse(updatedPg, rooms, images, pgAmenities);
     }
 
@@ -328,13 +355,50 @@ public class PgService {
         pg.setIsDeleted(true);
         pg.setDeletedAt(Instant.now());
         pgRepository.save(pg);
+
+        eventPublisher.publishEvent(new PgDeletedEvent(id, pg.getSlug()));
+    }
+
+    // Record a tap on the contact button - counted in memory and flushed to the daily stats in batches
+    public void recordContactClick(UUID pgId) {
+        if (!pgRepository.existsById(pgId)) {
+            throw new ResourceNotFoundException("PG not found with id: " + pgId);
+        }
+        eventPublisher.publishEvent(new PgContactClickedEvent(pgId));
+    }
+
+    // Add image to PG
+    @Transactional
+    public PgImageDTO addImage(UUID pgId, PgImageRequest request) {
+        Pg pg = pgOwnerGuard.requireOwnedPg(pgId);
+
+        // Only one primary image per PG
+        if (Boolean.TRUE.equals(request.getIsPrimary())) {
+            pgImageRepository.clearPrimaryByPgId(pgId);
+        }
+
+        PgImage image = pgImageRepository.save(createPgImage(pg, request));
+        pgRepository.refreshListingSummary(pgId);
+        eventPublisher.publishEvent(new PgUpdatedEvent(pgId));
+
+        return pgMapper.toImageDTO(image);
+    }
+
+    // Delete image from PG
+    @Transactional
+    public void deleteImage(UUID pgId, UUID imageId) {
+        pgOwnerGuard.requireOwnedPg(pgId);
+        PgImage image = pgImageRepository.findByIdAndPgId(imageId, pgId)
+                .orElseThrow(() -> new ResourceNotFoundException("Image not found with id: " + imageId));
+        pgImageRepository.delete(image);
+        pgRepository.refreshListingSummary(pgId);
+        eventPublisher.publishEvent(new PgUpdatedEvent(pgId));
     }
 
     // Get all PGs (paginated)
-    @Transactional(readOnly = true)
     public Page<PgListResponse> getAllPgs(Pageable pageable) {
-        Page<Pg> pgsPage = pgRepository.findAll(pageable);
-        return convertToListResponsePage(pgsPage);
+        return pageLoads.load("all|" + pageable, key -> inTransaction(() ->
+                convertToListResponsePage(pgRepository.findAll(pageable))));
     }
 
     // Get PGs by owner
@@ -345,33 +409,53 @@ public class PgService {
     }
 
     // Get PGs by city
-    @Transactional(readOnly = true)
     public Page<PgListResponse> getPgsByCity(String city, Pageable pageable) {
-        Page<Pg> pgsPage = pgRepository.findByCity(city, pageable);
-        return convertToListResponsePage(pgsPage);
+        return pageLoads.load("city|" + city + "|" + pageable, key -> inTransaction(() ->
+                convertToListResponsePage(pgRepository.findByCity(city, pageable))));
     }
 
-    // Search PGs
-    @Transactional(readOnly = true)
-    public Page<PgListResponse> searchPgs(String query, Pageable pageable) {
-        Page<Pg> pgsPage = pgRepository.searchPgs(query, pageable);
-        return convertToListResponsePage(pgsPage);
+    // Filter PGs - only the filters present are turned into SQL predicates
+    public Page<PgListResponse> filterPgs(PgFilterRequest filter, Pageable pageable) {
+        return pageLoads.load("filter|" + filter + "|" + pageable, key -> inTransaction(() ->
+                convertToListResponsePage(pgRepository.findAll(PgSpecification.matches(filter), pageable))));
     }
 
-    // Filter PGs
+    // Scroll all PGs (keyset pagination)
+    public PaginatedResponse<PgListResponse> scrollAllPgs(String cursor, int size, boolean includeTotal) {
+        return scrollLoads.load(String.join("|", "all", cursor, String.valueOf(size), String.valueOf(includeTotal)), key -> inTransaction(() -> {
+            Window<Pg> window = pgRepository.findByIsDeletedFalse(scrollPosition(cursor), KEYSET_SORT, pageLimit(size));
+            return toPaginatedResponse(window, includeTotal ? pgRepository.countByIsDeletedFalse() : null);
+        }));
+    }
+
+    // Scroll PGs by owner
     @Transactional(readOnly = true)
-    public Page<PgListResponse> filterPgs(
-            String city,
-            String state,
-            String genderType,
-            String occupancyType,
-            String furnishingType,
-            Boolean foodAvailable,
-            String status,
-            Pageable pageable) {
-        Page<Pg> pgsPage = pgRepository.findByFilters(
-                city, state, genderType, occupancyType, furnishingType, foodAvailable, status, pageable);
-        return convertToListResponsePage(pgsPage);
+    public PaginatedResponse<PgListResponse> scrollPgsByOwner(UUID ownerId, String cursor, int size, boolean includeTotal) {
+        Window<Pg> window = pgRepository.findByOwnerIdAndIsDeletedFalse(ownerId, scrollPosition(cursor), KEYSET_SORT, pageLimit(size));
+        return toPaginatedResponse(window, includeTotal ? pgRepository.countByOwnerIdAndIsDeletedFalse(ownerId) : null);
+    }
+
+    // Scroll PGs by city
+    public PaginatedResponse<PgListResponse> scrollPgsByCity(String city, String cursor, int size, boolean includeTotal) {
+        return scrollLoads.load(String.join("|", "city", city, cursor, String.valueOf(size), String.valueOf(includeTotal)), key -> inTransaction(() -> {
+            Window<Pg> window = pgRepository.findByCityAndIsDeletedFalse(city, scrollPosition(cursor), KEYSET_SORT, pageLimit(size));
+            return toPaginatedResponse(window, includeTotal ? pgRepository.countByCityAndIsDeletedFalse(city) : null);
+        }));
+    }
+
+    // Scroll filtered PGs
+    public PaginatedResponse<PgListResponse> scrollFilteredPgs(PgFilterRequest filter, String cursor, int size, boolean includeTotal) {
+        Specification<Pg> specification = PgSpecification.matches(filter);
+        ScrollPosition position = scrollPosition(cursor);
+        Limit limit = pageLimit(size);
+
+        return scrollLoads.load(String.join("|", "filter", filter.toString(), cursor, String.valueOf(size), String.valueOf(includeTotal)), key -> inTransaction(() -> {
+            Window<Pg> window = pgRepository.findBy(specification, query -> query
+                    .sortBy(KEYSET_SORT)
+                    .limit(limit.max())
+                    .scroll(position));
+            return toPaginatedResponse(window, includeTotal ? pgRepository.count(specification) : null);
+        }));
     }
 
     // Helper methods
@@ -380,23 +464,26 @@ public class PgService {
                 .orElseThrow(() -> new ResourceNotFoundException("PG not found with id: " + id));
     }
 
-    private PgRoom createPgRoom(Pg pg, PgRoomRequest request) {
-        PgRoom room = new PgRoom();
-        room.setPg(pg);
-        room.setRoomType(request.getRoomType());
-        room.setBedsPerRoom(request.getBedsPerRoom());
-        room.setTotalRooms(request.getTotalRooms());
-        room.setAvailableBeds(request.getAvailableBeds());
-        room.setPricePerBed(request.getPricePerBed());
-        room.setPricePerMonth(request.getPricePerMonth());
-        room.setRoomSizeSqft(request.getRoomSizeSqft());
-        room.setHasAttachedBathroom(request.getHasAttachedBathroom() != null ? request.getHasAttachedBathroom() : false);
-        room.setHasBalcony(request.getHasBalcony() != null ? request.getHasBalcony() : false);
-        room.setHasAc(request.getHasAc() != null ? request.getHasAc() : false);
-        room.setDescription(request.getDescription());
-        room.setCreatedAt(Instant.now());
-        room.setUpdatedAt(Instant.now());
-        return room;
+    // Cache loaders - the detail is assembled in one transaction so lazy associations can be mapped
+    private PgDetailResponse loadDetail(UUID id) {
+        return inTransaction(() -> {
+            Pg pg = findById(id);
+            List<PgRoom> rooms = pgRoomRepository.findByPgId(id);
+            List<PgImage> images = pgImageRepository.findByPgIdOrderByDisplayOrderAsc(id);
+            List<PgAmenity> pgAmenities = pgAmenityRepository.findByPgId(id);
+
+            return pgMapper.toDetailResponse(pg, rooms, images, pgAmenities);
+        });
+    }
+
+    // Loads run outside the caller's transaction so coalesced waiters never hold a connection
+    private <T> T inTransaction(Supplier<T> loader) {
+        return transactionTemplate.execute(status -> loader.get());
+    }
+
+    private UUID findIdBySlug(String slug) {
+        return pgRepository.findIdBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("PG not found with slug: " + slug));
     }
 
     private PgImage createPgImage(Pg pg, PgImageRequest request) {
@@ -413,17 +500,40 @@ public class PgService {
     }
 
     private Page<PgListResponse> convertToListResponsePage(Page<Pg> pgsPage) {
-        List<PgListResponse> responses = pgsPage.getContent().stream()
-                .map(pg -> {
-                    BigDecimal minPrice = pgRoomRepository.findMinPriceByPgId(pg.getId());
-                    BigDecimal maxPrice = pgRoomRepository.findMaxPriceByPgId(pg.getId());
-                    Integer availableBeds = pgRoomRepository.getTotalAvailableBedsByPgId(pg.getId());
-                    PgImage primaryImage = pgImageRepository.findByPgIdAndIsPrimaryTrue(pg.getId()).orElse(null);
-
-                    return pgMapper.toListResponse(pg, minPrice, maxPrice, availableBeds, primaryImage);
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(responses, pgsPage.getPageable(), pgsPage.getTotalElements());
+        // Price range, beds and primary image are denormalized on pgs, so no per-card lookups are needed
+        return pgsPage.map(pgMapper::toListResponse);
+    }
+
+    private Limit pageLimit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // Cursor is the (createdAt, id) of the last item of the previous page
+    private ScrollPosition scrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return ScrollPosition.forward(Map.of("createdAt", Instant.parse(parts[0]), "id", UUID.fromString(parts[1])));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    private PaginatedResponse<PgListResponse> toPaginatedResponse(Window<Pg> window, Long total) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Pg last = window.getContent().get(window.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return PaginatedResponse.<PgListResponse>builder()
+                .items(window.map(pgMapper::toListResponse).getContent())
+                .nextCursor(nextCursor)
+                .hasMore(window.hasNext())
+                .totalElements(total)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package org.recnos.pg.service.pg;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind PG view counts. Page views only bump a striped in-memory counter;
+ * ViewCountScheduler drains the totals and applies them to the database in one batch.
+ * Adders stay in the map once created, so an increment racing a drain is never dropped
+ * and is simply carried into the next flush.
+ */
+@Component
+public class PgViewCounter {
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(UUID pgId) {
+        pending.computeIfAbsent(pgId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Take the views counted since the last drain, keyed by PG id
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> counts = new HashMap<>();
+        pending.forEach((pgId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                counts.put(pgId, views);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Put back counts whose flush failed so the next interval retries them
+     */
+    public void restore(Map<UUID, Long> counts) {
+        counts.forEach((pgId, views) -> pending.computeIfAbsent(pgId, id -> new LongAdder()).add(views));
+    }
+
+    public void remove(UUID pgId) {
+        pending.remove(pgId);
+    }
+}
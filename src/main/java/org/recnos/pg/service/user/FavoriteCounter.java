@@ -0,0 +1,64 @@
+package org.recnos.pg.service.user;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind PG favorite count deltas. Each committed favorite adds +1 and each committed
+ * unfavorite -1; FavoriteService drains the net change per PG and applies it in one batch,
+ * so toggling a popular PG never locks its row on the request path.
+ */
+@Component
+public class FavoriteCounter {
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(UUID pgId, long delta) {
+        pending.computeIfAbsent(pgId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Take the net deltas recorded since the last drain, keyed by PG id
+     */
+    public Map<UUID, Long> drain() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        pending.forEach((pgId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(pgId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * Put back deltas whose flush failed so the next interval retries them
+     */
+    public void restore(Map<UUID, Long> deltas) {
+        deltas.forEach(this::record);
+    }
+
+    /**
+     * PGs with a delta recorded but not yet drained
+     */
+    public Set<UUID> pendingPgIds() {
+        Set<UUID> pgIds = new HashSet<>();
+        pending.forEach((pgId, adder) -> {
+            if (adder.sum() != 0) {
+                pgIds.add(pgId);
+            }
+        });
+        return pgIds;
+    }
+
+    public void remove(UUID pgId) {
+        pending.remove(pgId);
+    }
+}
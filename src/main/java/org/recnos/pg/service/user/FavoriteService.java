@@ -1,4 +1,140 @@
 package org.recnos.pg.service.user;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.recnos.pg.exception.ResourceNotFoundException;
+import org.recnos.pg.mapper.PgMapper;
+import org.recnos.pg.model.dto.response.pg.PgListResponse;
+import org.recnos.pg.repository.FavoriteRepository;
+import org.recnos.pg.repository.UserRepository;
+import org.recnos.pg.security.SecurityContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * User favorites. Adding and removing are single idempotent statements; the change to
+ * pgs.favorite_count is recorded in FavoriteCounter only after the statement commits and
+ * applied in batches by FavoriteCountScheduler, which also reconciles any drift.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class FavoriteService {
-}
\ No newline at end of file
+
+    // Two bind parameters per PG keeps one statement far below the 65535 parameter limit
+    private static final int MAX_PGS_PER_STATEMENT = 1000;
+
+    private final FavoriteRepository favoriteRepository;
+    private final UserRepository userRepository;
+    private final FavoriteCounter favoriteCounter;
+    private final PgMapper pgMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Favorite a PG for the current user
+     *
+     * @return true if it was added, false if it was already a favorite
+     */
+    public boolean addFavorite(UUID pgId) {
+        UUID userId = SecurityContextHolder.getCurrentUserId();
+        Integer added = transactionTemplate.execute(status -> favoriteRepository.insertIfAbsent(userId, pgId));
+        if (added != null && added > 0) {
+            favoriteCounter.record(pgId, 1);
+            return true;
+        }
+
+        // Nothing inserted: either already a favorite or the user or PG does not qualify
+        if (favoriteRepository.existsByUserIdAndPgId(userId, pgId)) {
+            return false;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        throw new ResourceNotFoundException("PG not found with id: " + pgId);
+    }
+
+    /**
+     * Remove a PG from the current user's favorites
+     *
+     * @return true if it was removed, false if it was not a favorite
+     */
+    public boolean removeFavorite(UUID pgId) {
+        UUID userId = SecurityContextHolder.getCurrentUserId();
+        Integer removed = transactionTemplate.execute(status -> favoriteRepository.deleteByUserIdAndPgId(userId, pgId));
+        if (removed != null && removed > 0) {
+            favoriteCounter.record(pgId, -1);
+            return true;
+        }
+        return false;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isFavorite(UUID pgId) {
+        return favoriteRepository.existsByUserIdAndPgId(SecurityContextHolder.getCurrentUserId(), pgId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PgListResponse> getMyFavorites(Pageable pageable) {
+        return favoriteRepository.findByUserIdOrderByCreatedAtDesc(SecurityContextHolder.getCurrentUserId(), pageable)
+                .map(favorite -> pgMapper.toListResponse(favorite.getPg()));
+    }
+
+    /**
+     * Apply the buffered favorite count deltas, one statement per chunk of PGs
+     */
+    public void flushCounts() {
+        Map<UUID, Long> deltas = favoriteCounter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        for (Map<UUID, Long> chunk : chunk(deltas)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> favoriteRepository.applyFavoriteDeltas(chunk));
+            } catch (Exception e) {
+                log.error("Failed to flush favorite counts for {} PGs, retrying next interval", chunk.size(), e);
+                favoriteCounter.restore(chunk);
+            }
+        }
+    }
+
+    /**
+     * Recount favorites and repair PGs whose stored count drifted, e.g. after a crash lost
+     * buffered deltas. PGs with deltas still buffered on this node are left for the next run;
+     * a delta still buffered on another node lands on top of the recount and is corrected by the next run.
+     */
+    public void reconcileCounts() {
+        flushCounts();
+        List<UUID> repaired = transactionTemplate.execute(status ->
+                favoriteRepository.reconcileFavoriteCounts(favoriteCounter.pendingPgIds()));
+        if (repaired != null && !repaired.isEmpty()) {
+            log.info("Reconciled favorite counts of {} PGs", repaired.size());
+        }
+    }
+
+    // Helper methods
+    private static List<Map<UUID, Long>> chunk(Map<UUID, Long> deltas) {
+        List<Map<UUID, Long>> chunks = new ArrayList<>();
+        Map<UUID, Long> current = new HashMap<>();
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() == MAX_PGS_PER_STATEMENT) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
@@ -1,6 +1,8 @@
 package org.recnos.pg.service.user;
 
 import lombok.RequiredArgsConstructor;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.event.ProfileUpdatedEvent;
 import org.recnos.pg.exception.BadRequestException;
 import org.recnos.pg.exception.DuplicateResourceException;
 import org.recnos.pg.exception.ForbiddenException;
@@ -12,10 +14,13 @@ import org.recnos.pg.model.dto.request.user.UserUpdateRequest;
 import org.recnos.pg.model.dto.response.user.UserProfileResponse;
 import org.recnos.pg.model.entity.User;
 import org.recnos.pg.repository.UserRepository;
+import org.recnos.pg.security.ProfileCache;
 import org.recnos.pg.security.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.recnos.pg.service.auth.PasswordService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
@@ -25,14 +30,15 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordService passwordService;
+    private final ProfileCache profileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional(readOnly = true)
+    // Memoized on the principal for the request and served from the profile cache across requests
     public UserProfileResponse getCurrentUserProfile() {
-        UUID userId = SecurityContextHolder.getCurrentUserId();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        return userMapper.toProfileResponse(user);
+        return SecurityContextHolder.getCurrentPrincipal().resolve(UserProfileResponse.class,
+                userId -> profileCache.getUser(userId, this::getUserProfileById));
     }
 
     @Transactional(readOnly = true)
@@ -102,10 +108,12 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(AppConstants.SESSION_USER_TYPE_USER, userId));
         return userMapper.toProfileResponse(updatedUser);
     }
 
-    @Transactional
+    // Not transactional: the password check and the new hash run on the hashing pool with no
+    // connection held, and only the final write runs in a transaction
     public void changePassword(UUID userId, PasswordChangeRequest request) {
         UUID currentUserId = SecurityContextHolder.getCurrentUserId();
 
@@ -122,13 +130,13 @@ public class UserService {
         User user = findById(userId);
 
         // Verify current password
-        if (user.getPasswordHash() == null || !passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!passwordService.matches(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new BadRequestException("Current password is incorrect");
         }
 
         // Update password
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        String newPasswordHash = passwordService.encode(request.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> findById(userId).setPasswordHash(newPasswordHash));
     }
 
     @Transactional
@@ -156,6 +164,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileUpdatedEvent(AppConstants.SESSION_USER_TYPE_USER, userId));
         return userMapper.toProfileResponse(updatedUser);
     }
 }
@@ -1,4 +1,107 @@
 package org.recnos.pg.specification;
 
-public class PgSpecification {
-}
\ No newline at end of file
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.model.entity.Pg;
+import org.recnos.pg.model.entity.PgAmenity;
+import org.recnos.pg.model.entity.PgRoom;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.recnos.pg.specification.SearchSpecification.allOf;
+import static org.recnos.pg.specification.SearchSpecification.equalIfPresent;
+
+public final class PgSpecification {
+
+    private PgSpecification() {
+    }
+
+    /**
+     * Non-deleted PGs matching every field present in the filter
+     */
+    public static Specification<Pg> matches(PgFilterRequest filter) {
+        List<Specification<Pg>> specifications = new ArrayList<>();
+        specifications.add(notDeleted());
+
+        // Location
+        specifications.add(equalIfPresent("city", filter.getCity()));
+        specifications.add(equalIfPresent("state", filter.getState()));
+
+        // Accommodation
+        specifications.add(equalIfPresent("genderType", filter.getGenderType()));
+        specifications.add(equalIfPresent("occupancyType", filter.getOccupancyType()));
+        specifications.add(equalIfPresent("furnishingType", filter.getFurnishingType()));
+
+        // Food
+        specifications.add(equalIfPresent("foodAvailable", filter.getFoodAvailable()));
+        specifications.add(equalIfPresent("foodType", filter.getFoodType()));
+
+        // Status
+        specifications.add(equalIfPresent("status", filter.getStatus()));
+
+        // Rooms
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null || filter.getMinAvailableBeds() != null) {
+            specifications.add(hasRoom(filter.getMinPrice(), filter.getMaxPrice(), filter.getMinAvailableBeds()));
+        }
+
+        // Amenities
+        if (filter.getAmenityIds() != null) {
+            filter.getAmenityIds().stream()
+                    .distinct()
+                    .map(PgSpecification::hasAmenity)
+                    .forEach(specifications::add);
+        }
+
+        return allOf(specifications);
+    }
+
+    public static Specification<Pg> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("isDeleted"));
+    }
+
+    /**
+     * EXISTS a single room that is within the monthly price range and has enough free beds
+     */
+    public static Specification<Pg> hasRoom(BigDecimal minPrice, BigDecimal maxPrice, Integer minAvailableBeds) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<PgRoom> room = subquery.from(PgRoom.class);
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(room.get("pg"), root));
+            if (minPrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(room.get("pricePerMonth"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(room.get("pricePerMonth"), maxPrice));
+            }
+            if (minAvailableBeds != null) {
+                predicates.add(cb.greaterThanOrEqualTo(room.get("availableBeds"), minAvailableBeds));
+            }
+
+            subquery.select(cb.literal(1)).where(predicates.toArray(new Predicate[0]));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * EXISTS a pg_amenities row for the amenity - resolved through the (pg_id, amenity_id) primary key
+     */
+    public static Specification<Pg> hasAmenity(UUID amenityId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<PgAmenity> pgAmenity = subquery.from(PgAmenity.class);
+
+            subquery.select(cb.literal(1)).where(
+                    cb.equal(pgAmenity.get("pg"), root),
+                    cb.equal(pgAmenity.get("amenity").get("id"), amenityId));
+            return cb.exists(subquery);
+        };
+    }
+}
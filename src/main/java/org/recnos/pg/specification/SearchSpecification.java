@@ -1,4 +1,42 @@
 package org.recnos.pg.specification;
 
-public class SearchSpecification {
-}
\ No newline at end of file
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Building blocks for composable filters. Absent filters contribute no predicate at all,
+ * so the generated SQL only contains the conditions actually requested and PostgreSQL can
+ * plan each filter combination against the matching index.
+ */
+public final class SearchSpecification {
+
+    private SearchSpecification() {
+    }
+
+    /**
+     * Equality on an attribute, or null (no restriction) when the value is absent
+     */
+    public static <T> Specification<T> equalIfPresent(String attribute, Object value) {
+        if (value == null || (value instanceof String text && text.isBlank())) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * AND of the given specifications, skipping nulls
+     */
+    public static <T> Specification<T> allOf(List<Specification<T>> specifications) {
+        List<Specification<T>> present = specifications.stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        return (root, query, cb) -> cb.and(present.stream()
+                .map(specification -> specification.toPredicate(root, query, cb))
+                .filter(Objects::nonNull)
+                .toArray(Predicate[]::new));
+    }
+}
@@ -0,0 +1,15 @@
+package org.recnos.pg.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public class ClientIpUtil {
+
+    /**
+     * Address of the client that sent the request. X-Forwarded-For is never read here: the
+     * server applies it only when it comes from a trusted proxy (server.forward-headers-strategy),
+     * so a client cannot pick its own address by sending the header.
+     */
+    public static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
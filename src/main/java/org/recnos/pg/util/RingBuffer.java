@@ -0,0 +1,110 @@
+package org.recnos.pg.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer queue over a fixed array (Vyukov's sequence-per-slot design).
+ * {@link #offer} never blocks: when the buffer is full it returns false and the caller decides
+ * whether to drop. Capacity is rounded up to a power of two.
+ */
+public class RingBuffer<E> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public RingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Enqueue without blocking
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long diff = sequences.get(slot) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[slot] = element;
+                    // Volatile write publishes the element to the consumer that reads this sequence
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Dequeue without blocking
+     *
+     * @return the oldest element, or null if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long diff = sequences.get(slot) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) slots[slot];
+                    slots[slot] = null;
+                    // Hand the slot back to producers one lap ahead
+                    sequences.set(slot, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Move up to maxElements into the target list
+     *
+     * @return number of elements moved
+     */
+    public int drainTo(List<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    // Approximate under concurrent use
+    public int size() {
+        return (int) Math.max(0, Math.min(slots.length, tail.get() - head.get()));
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
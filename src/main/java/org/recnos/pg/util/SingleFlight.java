@@ -0,0 +1,85 @@
+package org.recnos.pg.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader and every
+ * caller arriving while it is in flight waits on the same future instead of loading again.
+ * Nothing is retained once a load completes, so this is not a cache on its own.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Load the key on the calling thread, or wait for the load already in flight for it.
+     * A failed load is rethrown to every waiting caller.
+     */
+    public V load(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.apply(key);
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Start loading the key on the executor unless a load is already in flight, and return
+     * the in-flight load. A rejected task fails the returned future instead of blocking.
+     */
+    public CompletableFuture<V> loadAsync(K key, Function<? super K, ? extends V> loader, Executor executor) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(loader.apply(key));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    // Helper methods
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- Keyset (seek) pagination orders by (created_at DESC, id DESC) over non-deleted PGs.
+-- These indexes let each page start with an index seek instead of a sort or offset scan.
+CREATE INDEX idx_pgs_keyset ON pgs (created_at DESC, id DESC)
+WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_pgs_city_keyset ON pgs (city, created_at DESC, id DESC)
+WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_pgs_owner_keyset ON pgs (owner_id, created_at DESC, id DESC)
+WHERE is_deleted = FALSE;
@@ -0,0 +1,215 @@
+-- =============================================
+-- MONTHLY RANGE PARTITIONS FOR APPEND-ONLY ANALYTICS TABLES
+-- =============================================
+-- pg_views, search_queries and user_activity_logs become partitioned by month on their
+-- timestamp column. Partitions are named <table>_pYYYY_MM; CleanupScheduler creates future
+-- months ahead of time and drops months past the retention period.
+-- The partition key has to be part of the primary key, so the keys become (id, <timestamp>).
+-- daily_analytics reads pg_views and is recreated unchanged on the new table.
+
+DROP MATERIALIZED VIEW IF EXISTS daily_analytics;
+
+ALTER TABLE pg_views RENAME TO pg_views_unpartitioned;
+ALTER TABLE search_queries RENAME TO search_queries_unpartitioned;
+ALTER TABLE user_activity_logs RENAME TO user_activity_logs_unpartitioned;
+
+-- Free the constraint and index names for the new tables
+ALTER TABLE pg_views_unpartitioned RENAME CONSTRAINT pg_views_pkey TO pg_views_unpartitioned_pkey;
+ALTER TABLE search_queries_unpartitioned RENAME CONSTRAINT search_queries_pkey TO search_queries_unpartitioned_pkey;
+ALTER TABLE user_activity_logs_unpartitioned RENAME CONSTRAINT user_activity_logs_pkey TO user_activity_logs_unpartitioned_pkey;
+
+ALTER INDEX idx_pg_views_pg RENAME TO idx_pg_views_pg_unpartitioned;
+ALTER INDEX idx_pg_views_date RENAME TO idx_pg_views_date_unpartitioned;
+ALTER INDEX idx_search_queries_user RENAME TO idx_search_queries_user_unpartitioned;
+ALTER INDEX idx_search_queries_date RENAME TO idx_search_queries_date_unpartitioned;
+
+CREATE TABLE pg_views (
+	id uuid NOT NULL DEFAULT uuid_generate_v4 (),
+	pg_id uuid NOT NULL REFERENCES pgs (id) ON DELETE CASCADE,
+	user_id uuid REFERENCES users (id),
+	ip_address varchar(50),
+	user_agent text,
+	referrer varchar(500),
+	session_id varchar(255),
+	viewed_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (id, viewed_at)
+)
+PARTITION BY RANGE (viewed_at);
+
+CREATE TABLE search_queries (
+	id uuid NOT NULL DEFAULT uuid_generate_v4 (),
+	user_id uuid REFERENCES users (id),
+	query text NOT NULL,
+	query_type varchar(50), -- full_text, natural_language, filter_based
+	filters jsonb, -- Store applied filters
+	results_count integer,
+	clicked_pg_id uuid REFERENCES pgs (id),
+	click_position integer, -- Position in search results
+	session_id varchar(255),
+	ip_address varchar(50),
+	created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (id, created_at)
+)
+PARTITION BY RANGE (created_at);
+
+CREATE TABLE user_activity_logs (
+	id uuid NOT NULL DEFAULT uuid_generate_v4 (),
+	user_id uuid,
+	owner_id uuid,
+	admin_id uuid,
+	user_type varchar(20) NOT NULL,
+	activity_type varchar(100) NOT NULL, -- login, logout, pg_create, pg_edit, etc.
+	activity_description text,
+	entity_type varchar(50), -- pg, user, owner, payment, etc.
+	entity_id uuid,
+	metadata jsonb, -- Additional context
+	ip_address varchar(50),
+	user_agent text,
+	created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (id, created_at)
+)
+PARTITION BY RANGE (created_at);
+
+-- Indexes on the parent cascade to every partition
+CREATE INDEX idx_pg_views_pg ON pg_views (pg_id, viewed_at);
+
+CREATE INDEX idx_pg_views_date ON pg_views (viewed_at);
+
+CREATE INDEX idx_search_queries_user ON search_queries (user_id);
+
+CREATE INDEX idx_search_queries_date ON search_queries (created_at);
+
+CREATE INDEX idx_user_activity_logs_date ON user_activity_logs (created_at);
+
+COMMENT ON TABLE search_queries IS 'User search history for analytics';
+
+-- One partition per month from the oldest existing row up to three months ahead
+DO $$
+DECLARE
+	spec record;
+	oldest timestamp;
+	month_start timestamp;
+BEGIN
+	FOR spec IN
+	SELECT
+		*
+	FROM (
+		VALUES ('pg_views', 'viewed_at'),
+			('search_queries', 'created_at'),
+			('user_activity_logs', 'created_at')) AS t (table_name, column_name)
+	LOOP
+		EXECUTE format('SELECT min(%I) FROM %I', spec.column_name, spec.table_name || '_unpartitioned') INTO oldest;
+		month_start := date_trunc('month', LEAST (COALESCE(oldest, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP));
+		WHILE month_start < date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '4 months' LOOP
+			EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+				spec.table_name || '_p' || to_char(month_start, 'YYYY_MM'), spec.table_name, month_start, month_start + INTERVAL '1 month');
+			month_start := month_start + INTERVAL '1 month';
+		END LOOP;
+	END LOOP;
+END
+$$;
+
+-- Rows without a timestamp never existed in practice; they land in the month of the migration
+INSERT INTO pg_views (id, pg_id, user_id, ip_address, user_agent, referrer, session_id, viewed_at)
+SELECT
+	id,
+	pg_id,
+	user_id,
+	ip_address,
+	user_agent,
+	referrer,
+	session_id,
+	COALESCE(viewed_at, CURRENT_TIMESTAMP)
+FROM
+	pg_views_unpartitioned;
+
+INSERT INTO search_queries (id, user_id, query, query_type, filters, results_count, clicked_pg_id, click_position, session_id, ip_address, created_at)
+SELECT
+	id,
+	user_id,
+	query,
+	query_type,
+	filters,
+	results_count,
+	clicked_pg_id,
+	click_position,
+	session_id,
+	ip_address,
+	COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM
+	search_queries_unpartitioned;
+
+INSERT INTO user_activity_logs (id, user_id, owner_id, admin_id, user_type, activity_type, activity_description, entity_type, entity_id, metadata, ip_address, user_agent, created_at)
+SELECT
+	id,
+	user_id,
+	owner_id,
+	admin_id,
+	user_type,
+	activity_type,
+	activity_description,
+	entity_type,
+	entity_id,
+	metadata,
+	ip_address,
+	user_agent,
+	COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM
+	user_activity_logs_unpartitioned;
+
+DROP TABLE pg_views_unpartitioned;
+
+DROP TABLE search_queries_unpartitioned;
+
+DROP TABLE user_activity_logs_unpartitioned;
+
+-- Daily analytics summary (unchanged, now reading the partitioned pg_views)
+CREATE MATERIALIZED VIEW daily_analytics AS
+SELECT
+	date(created_at) AS date,
+	'user_registration' AS metric,
+	count(*) AS count
+FROM
+	users
+GROUP BY
+	date(created_at)
+UNION ALL
+SELECT
+	date(created_at) AS date,
+	'owner_registration' AS metric,
+	count(*) AS count
+FROM
+	owners
+GROUP BY
+	date(created_at)
+UNION ALL
+SELECT
+	date(viewed_at) AS date,
+	'pg_views' AS metric,
+	count(*) AS count
+FROM
+	pg_views
+GROUP BY
+	date(viewed_at)
+UNION ALL
+SELECT
+	date(created_at) AS date,
+	'visit_requests' AS metric,
+	count(*) AS count
+FROM
+	visits
+GROUP BY
+	date(created_at)
+UNION ALL
+SELECT
+	date(paid_at) AS date,
+	'payments' AS metric,
+	count(*) AS count
+FROM
+	payments
+WHERE
+	status = 'success'
+GROUP BY
+	date(paid_at);
+
+CREATE UNIQUE INDEX idx_daily_analytics ON daily_analytics (date, metric);
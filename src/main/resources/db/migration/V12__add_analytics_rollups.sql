@@ -0,0 +1,56 @@
+-- =============================================
+-- INCREMENTAL ANALYTICS ROLLUPS
+-- =============================================
+-- AnalyticsScheduler folds only the source rows newer than each source's watermark into these
+-- tables, so a refresh costs as much as the new data rather than the whole history.
+
+-- Platform-wide counts per day
+CREATE TABLE analytics_daily_metrics (
+	metric_date date NOT NULL,
+	metric varchar(50) NOT NULL, -- user_registration, owner_registration, pg_views, visit_requests, callbacks, favorites, payments
+	count bigint NOT NULL DEFAULT 0,
+	PRIMARY KEY (metric_date, metric)
+);
+
+-- Per-PG counts per day; the primary key serves owner dashboards as one range scan per PG
+CREATE TABLE pg_daily_stats (
+	pg_id uuid NOT NULL REFERENCES pgs (id) ON DELETE CASCADE,
+	stat_date date NOT NULL,
+	views bigint NOT NULL DEFAULT 0,
+	visit_requests bigint NOT NULL DEFAULT 0,
+	callbacks bigint NOT NULL DEFAULT 0,
+	favorites bigint NOT NULL DEFAULT 0,
+	PRIMARY KEY (pg_id, stat_date)
+);
+
+-- Source rows with a timestamp <= processed_until are already counted
+CREATE TABLE analytics_rollup_watermarks (
+	source varchar(50) PRIMARY KEY,
+	processed_until timestamp NOT NULL,
+	updated_at timestamp DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The first run folds in the full history once
+INSERT INTO analytics_rollup_watermarks (source, processed_until)
+	VALUES ('users', '-infinity'),
+	('owners', '-infinity'),
+	('pg_views', '-infinity'),
+	('visits', '-infinity'),
+	('callbacks', '-infinity'),
+	('favorites', '-infinity'),
+	('payments', '-infinity');
+
+-- daily_analytics keeps its shape for existing readers but no longer needs a full refresh
+DROP MATERIALIZED VIEW IF EXISTS daily_analytics;
+
+CREATE VIEW daily_analytics AS
+SELECT
+	metric_date AS date,
+	metric,
+	count
+FROM
+	analytics_daily_metrics;
+
+COMMENT ON TABLE analytics_daily_metrics IS 'Incrementally maintained platform metrics per day';
+
+COMMENT ON TABLE pg_daily_stats IS 'Incrementally maintained per-PG activity per day';
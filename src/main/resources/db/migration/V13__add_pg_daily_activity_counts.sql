@@ -0,0 +1,8 @@
+-- =============================================
+-- EVENT-FED PER-PG DAILY COUNTS
+-- =============================================
+-- Contact clicks and conversions leave no row to roll up, so they are counted from domain
+-- events in memory and added to pg_daily_stats in batches.
+ALTER TABLE pg_daily_stats
+	ADD COLUMN contact_clicks bigint NOT NULL DEFAULT 0,
+	ADD COLUMN conversions bigint NOT NULL DEFAULT 0;
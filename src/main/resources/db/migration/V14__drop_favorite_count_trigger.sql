@@ -0,0 +1,30 @@
+-- =============================================
+-- FAVORITE COUNTS WITHOUT A TRIGGER
+-- =============================================
+-- favorite_count_trigger recounted every favorite of a PG on each insert or delete while holding
+-- the PG row lock. FavoriteService now coalesces +1/-1 deltas in memory and FavoriteCountScheduler
+-- applies them in batches, with a periodic reconciliation that recounts PGs whose count drifted.
+
+DROP TRIGGER IF EXISTS favorite_count_trigger ON favorites;
+
+DROP FUNCTION IF EXISTS on_favorite_change ();
+
+DROP FUNCTION IF EXISTS update_pg_favorite_count (uuid);
+
+-- Start from exact counts
+UPDATE
+	pgs p
+SET
+	favorite_count = c.favorites
+FROM (
+	SELECT
+		p2.id,
+		count(f.id) AS favorites
+	FROM
+		pgs p2
+		LEFT JOIN favorites f ON f.pg_id = p2.id
+	GROUP BY
+		p2.id) AS c
+WHERE
+	p.id = c.id
+	AND p.favorite_count IS DISTINCT FROM c.favorites;
@@ -0,0 +1,18 @@
+-- =============================================
+-- SESSION REVOCATION AND REFRESH-TOKEN ROTATION
+-- =============================================
+-- A session is one login. token and refresh_token hold the ids (jti) of the session's current
+-- access and refresh tokens; each refresh rotates both. Revoked sessions keep their row until
+-- they expire so every node can rebuild its revocation filter from the table.
+
+ALTER TABLE sessions
+	ADD COLUMN revoked_at timestamp,
+	ADD COLUMN refreshed_at timestamp;
+
+CREATE INDEX idx_sessions_revoked ON sessions (expires_at)
+WHERE
+	revoked_at IS NOT NULL;
+
+CREATE INDEX idx_sessions_owner ON sessions (owner_id, user_type);
+
+CREATE INDEX idx_sessions_expires ON sessions (expires_at);
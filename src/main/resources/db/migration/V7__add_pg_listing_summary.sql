@@ -0,0 +1,38 @@
+-- Denormalized listing card summary on pgs
+-- Maintained by the application whenever pg_rooms or pg_images rows change,
+-- so list pages can render cards without aggregating rooms and images per request.
+ALTER TABLE pgs
+    ADD COLUMN min_price DECIMAL(10, 2),
+    ADD COLUMN max_price DECIMAL(10, 2),
+    ADD COLUMN available_beds INTEGER,
+    ADD COLUMN primary_image_url VARCHAR(500),
+    ADD COLUMN primary_thumbnail_url VARCHAR(500);
+
+-- Backfill room aggregates
+UPDATE pgs p
+SET min_price      = r.min_price,
+    max_price      = r.max_price,
+    available_beds = r.available_beds
+FROM (SELECT pg_id,
+             MIN(price_per_month) AS min_price,
+             MAX(price_per_month) AS max_price,
+             SUM(available_beds)  AS available_beds
+      FROM pg_rooms
+      GROUP BY pg_id) r
+WHERE r.pg_id = p.id;
+
+-- Backfill primary image
+UPDATE pgs p
+SET primary_image_url     = i.image_url,
+    primary_thumbnail_url = i.thumbnail_url
+FROM (SELECT DISTINCT ON (pg_id) pg_id, image_url, thumbnail_url
+      FROM pg_images
+      WHERE is_primary = TRUE
+      ORDER BY pg_id, display_order, uploaded_at) i
+WHERE i.pg_id = p.id;
+
+COMMENT ON COLUMN pgs.min_price IS 'Lowest room price_per_month (maintained on room writes)';
+COMMENT ON COLUMN pgs.max_price IS 'Highest room price_per_month (maintained on room writes)';
+COMMENT ON COLUMN pgs.available_beds IS 'Sum of available_beds across rooms (maintained on room writes)';
+COMMENT ON COLUMN pgs.primary_image_url IS 'Primary image URL (maintained on image writes)';
+COMMENT ON COLUMN pgs.primary_thumbnail_url IS 'Primary image thumbnail URL (maintained on image writes)';
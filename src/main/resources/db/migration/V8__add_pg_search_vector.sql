@@ -0,0 +1,68 @@
+-- Weighted full-text search on PGs
+-- The expression index idx_pgs_search (V1) is never used by the application queries,
+-- so it is replaced by a stored tsvector column kept current by a trigger.
+-- Weights: name (A) > city/landmark (B) > address (C) > description (D)
+ALTER TABLE pgs ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION pgs_search_vector_update ()
+	RETURNS TRIGGER
+	AS $$
+BEGIN
+	NEW.search_vector :=
+		setweight(to_tsvector('english', coalesce(NEW.name, '')), 'A') ||
+		setweight(to_tsvector('english', coalesce(NEW.city, '') || ' ' || coalesce(NEW.landmark, '')), 'B') ||
+		setweight(to_tsvector('english', coalesce(NEW.address, '')), 'C') ||
+		setweight(to_tsvector('english', coalesce(NEW.description, '')), 'D');
+	RETURN NEW;
+END;
+$$
+LANGUAGE plpgsql;
+
+CREATE TRIGGER pgs_search_vector_trigger
+	BEFORE INSERT OR UPDATE OF name, city, landmark, address, description ON pgs
+	FOR EACH ROW
+	EXECUTE FUNCTION pgs_search_vector_update ();
+
+-- Backfill existing rows without touching updated_at
+ALTER TABLE pgs DISABLE TRIGGER update_pgs_updated_at;
+
+UPDATE pgs
+SET search_vector =
+	setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+	setweight(to_tsvector('english', coalesce(city, '') || ' ' || coalesce(landmark, '')), 'B') ||
+	setweight(to_tsvector('english', coalesce(address, '')), 'C') ||
+	setweight(to_tsvector('english', coalesce(description, '')), 'D');
+
+ALTER TABLE pgs ENABLE TRIGGER update_pgs_updated_at;
+
+DROP INDEX IF EXISTS idx_pgs_search;
+
+CREATE INDEX idx_pgs_search_vector ON pgs USING GIN (search_vector);
+
+-- Keep the SQL helper consistent with the application search
+CREATE OR REPLACE FUNCTION search_pgs (search_query text)
+	RETURNS TABLE (
+		pg_id uuid,
+		pg_name varchar,
+		rank real
+	)
+	AS $$
+BEGIN
+	RETURN QUERY
+	SELECT
+		p.id,
+		p.name,
+		ts_rank(p.search_vector, websearch_to_tsquery('english', search_query)) AS rank
+	FROM
+		pgs p
+	WHERE
+		p.status = 'approved'
+		AND p.is_deleted = FALSE
+		AND p.search_vector @@ websearch_to_tsquery('english', search_query)
+	ORDER BY
+		rank DESC;
+END;
+$$
+LANGUAGE plpgsql;
+
+COMMENT ON COLUMN pgs.search_vector IS 'Weighted tsvector over name, city/landmark, address and description (trigger maintained)';
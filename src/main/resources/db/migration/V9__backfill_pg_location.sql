@@ -0,0 +1,11 @@
+-- pgs.location (GEOGRAPHY, GIST-indexed in V1) was never written by the application.
+-- PgService now syncs it from latitude/longitude on create and update; backfill existing rows.
+ALTER TABLE pgs DISABLE TRIGGER update_pgs_updated_at;
+
+UPDATE pgs
+SET location = CAST(ST_SetSRID(ST_MakePoint(longitude, latitude), 4326) AS geography)
+WHERE latitude IS NOT NULL
+	AND longitude IS NOT NULL;
+
+ALTER TABLE pgs ENABLE TRIGGER update_pgs_updated_at;
+
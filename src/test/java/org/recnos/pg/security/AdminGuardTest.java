@@ -0,0 +1,64 @@
+package org.recnos.pg.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.exception.ForbiddenException;
+import org.recnos.pg.repository.AdminRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminGuardTest {
+
+    private final AdminRepository adminRepository = mock(AdminRepository.class);
+    private final AdminGuard adminGuard = new AdminGuard(adminRepository);
+
+    @AfterEach
+    void clearContext() {
+        org.springframework.security.core.context.SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void adminCheckIsLoadedOncePerRequest() {
+        UUID adminId = authenticate();
+        when(adminRepository.existsById(adminId)).thenReturn(true);
+
+        assertThat(adminGuard.isAdmin()).isTrue();
+        assertThat(adminGuard.requireAdmin()).isEqualTo(adminId);
+        assertThat(adminGuard.requireAdmin()).isEqualTo(adminId);
+
+        verify(adminRepository, times(1)).existsById(adminId);
+    }
+
+    @Test
+    void nonAdminIsRejected() {
+        UUID userId = authenticate();
+        when(adminRepository.existsById(userId)).thenReturn(false);
+
+        assertThatThrownBy(adminGuard::requireAdmin).isInstanceOf(ForbiddenException.class);
+        assertThat(adminGuard.isAdmin()).isFalse();
+        verify(adminRepository, times(1)).existsById(userId);
+    }
+
+    @Test
+    void anonymousIsNotAdmin() {
+        assertThat(adminGuard.isAdmin()).isFalse();
+    }
+
+    // Helper methods
+    private UUID authenticate() {
+        UUID id = UUID.randomUUID();
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(id, UUID.randomUUID());
+        org.springframework.security.core.context.SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        return id;
+    }
+}
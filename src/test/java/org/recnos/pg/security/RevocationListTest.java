@@ -0,0 +1,127 @@
+package org.recnos.pg.security;
+
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.event.SessionsRevokedEvent;
+import org.recnos.pg.repository.SessionRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RevocationListTest {
+
+    private final SessionRepository sessionRepository = mock(SessionRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final RevocationList revocationList = new RevocationList(sessionRepository, false,
+            mock(ObjectProvider.class), mock(ObjectProvider.class));
+
+    @Test
+    void unknownSessionIsAnsweredWithoutQuery() {
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenReturn(List.of(UUID.randomUUID()));
+        revocationList.init();
+
+        assertThat(revocationList.isRevoked(UUID.randomUUID())).isFalse();
+        verify(sessionRepository, never()).existsByIdAndRevokedAtIsNotNull(any());
+    }
+
+    @Test
+    void filterHitIsConfirmedOnceAndCached() {
+        UUID revoked = UUID.randomUUID();
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenReturn(List.of(revoked));
+        when(sessionRepository.existsByIdAndRevokedAtIsNotNull(revoked)).thenReturn(true);
+        revocationList.init();
+
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        verify(sessionRepository, times(1)).existsByIdAndRevokedAtIsNotNull(revoked);
+    }
+
+    @Test
+    void unconfirmedHitIsNotRevoked() {
+        UUID session = UUID.randomUUID();
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenReturn(List.of(session));
+        when(sessionRepository.existsByIdAndRevokedAtIsNotNull(session)).thenReturn(false);
+        revocationList.init();
+
+        assertThat(revocationList.isRevoked(session)).isFalse();
+    }
+
+    @Test
+    void revocationInvalidatesCachedConfirmation() {
+        UUID session = UUID.randomUUID();
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenReturn(List.of());
+        when(sessionRepository.existsByIdAndRevokedAtIsNotNull(session)).thenReturn(false, true);
+        revocationList.init();
+
+        revocationList.onSessionsRevoked(new SessionsRevokedEvent(List.of(session)));
+
+        assertThat(revocationList.isRevoked(session)).isFalse();
+        revocationList.onSessionsRevoked(new SessionsRevokedEvent(List.of(session)));
+        assertThat(revocationList.isRevoked(session)).isTrue();
+    }
+
+    @Test
+    void revocationDuringRebuildSurvivesTheSwap() throws Exception {
+        UUID revokedMidRebuild = UUID.randomUUID();
+        when(sessionRepository.existsByIdAndRevokedAtIsNotNull(revokedMidRebuild)).thenReturn(true);
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        // The rebuild snapshot is read before the revocation commits, so it does not contain the session
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertThat(releaseQuery.await(10, TimeUnit.SECONDS)).isTrue();
+            return List.of();
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(revocationList::rebuild);
+        assertThat(queryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        revocationList.onSessionsRevoked(new SessionsRevokedEvent(List.of(revokedMidRebuild)));
+        releaseQuery.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertThat(revocationList.isRevoked(revokedMidRebuild)).isTrue();
+    }
+
+    @Test
+    void failedRebuildKeepsCurrentFilter() {
+        UUID revoked = UUID.randomUUID();
+        when(sessionRepository.findRevokedIds(any(Instant.class)))
+                .thenReturn(List.of(revoked))
+                .thenThrow(new IllegalStateException("database down"));
+        when(sessionRepository.existsByIdAndRevokedAtIsNotNull(revoked)).thenReturn(true);
+        revocationList.init();
+
+        revocationList.rebuild();
+
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+    }
+
+    @Test
+    void rebuildDropsSessionsNoLongerRevoked() {
+        UUID expired = UUID.randomUUID();
+        when(sessionRepository.findRevokedIds(any(Instant.class))).thenReturn(List.of(expired), List.of());
+        revocationList.init();
+
+        revocationList.rebuild();
+
+        assertThat(revocationList.isRevoked(expired)).isFalse();
+        verify(sessionRepository, never()).existsByIdAndRevokedAtIsNotNull(any());
+    }
+}
@@ -0,0 +1,116 @@
+package org.recnos.pg.service.auth;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.constants.AppConstants;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the issue and verify Lua scripts against a real Redis. Skipped when Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisOtpStoreTest {
+
+    private static final String MOBILE = "9876543210";
+    private static final String USER_TYPE = "user";
+    private static final String PREFIX = "otp:{" + USER_TYPE + ":" + MOBILE + "}";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisOtpStore otpStore;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        otpStore = new RedisOtpStore(redisTemplate);
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void issuedCodeVerifiesOnce() {
+        assertThat(otpStore.issue(MOBILE, USER_TYPE, "123456")).isZero();
+
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.VERIFIED);
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.EXPIRED);
+    }
+
+    @Test
+    void resendWithinCooldownIsRejected() {
+        otpStore.issue(MOBILE, USER_TYPE, "123456");
+
+        Duration retryAfter = otpStore.issue(MOBILE, USER_TYPE, "654321");
+
+        assertThat(retryAfter).isPositive().isLessThanOrEqualTo(AppConstants.OTP_RESEND_COOLDOWN);
+        // The first code is still the live one
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.VERIFIED);
+    }
+
+    @Test
+    void sendsAreCappedPerWindow() {
+        for (int i = 0; i < AppConstants.OTP_MAX_SENDS_PER_WINDOW; i++) {
+            assertThat(otpStore.issue(MOBILE, USER_TYPE, "12345" + i)).isZero();
+            redisTemplate.delete(PREFIX + ":cooldown");
+        }
+
+        Duration retryAfter = otpStore.issue(MOBILE, USER_TYPE, "999999");
+
+        assertThat(retryAfter).isGreaterThan(AppConstants.OTP_RESEND_COOLDOWN)
+                .isLessThanOrEqualTo(AppConstants.OTP_SEND_WINDOW);
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "999999")).isEqualTo(OtpStore.VerificationResult.INVALID);
+    }
+
+    @Test
+    void wrongGuessesExhaustAttempts() {
+        otpStore.issue(MOBILE, USER_TYPE, "123456");
+
+        for (int i = 0; i < AppConstants.OTP_MAX_ATTEMPTS; i++) {
+            assertThat(otpStore.verify(MOBILE, USER_TYPE, "000000")).isEqualTo(OtpStore.VerificationResult.INVALID);
+        }
+
+        // Even the right code is refused once the attempts are spent, and the code is gone
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.ATTEMPTS_EXCEEDED);
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.EXPIRED);
+    }
+
+    @Test
+    void codesAreKeyedPerUserType() {
+        otpStore.issue(MOBILE, USER_TYPE, "123456");
+
+        assertThat(otpStore.issue(MOBILE, "owner", "654321")).isZero();
+        assertThat(otpStore.verify(MOBILE, "owner", "654321")).isEqualTo(OtpStore.VerificationResult.VERIFIED);
+        assertThat(otpStore.verify(MOBILE, USER_TYPE, "123456")).isEqualTo(OtpStore.VerificationResult.VERIFIED);
+    }
+}
@@ -0,0 +1,104 @@
+package org.recnos.pg.service.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.recnos.pg.config.JwtConfig;
+import org.recnos.pg.constants.AppConstants;
+import org.recnos.pg.event.SessionsRevokedEvent;
+import org.recnos.pg.exception.UnauthorizedException;
+import org.recnos.pg.model.dto.response.auth.TokenResponse;
+import org.recnos.pg.model.entity.Session;
+import org.recnos.pg.repository.SessionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionServiceTest {
+
+    private final SessionRepository sessionRepository = mock(SessionRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final JwtConfig jwtConfig = new JwtConfig();
+    private final SessionService sessionService = new SessionService(sessionRepository, new JwtService(jwtConfig),
+            jwtConfig, eventPublisher);
+
+    private final UUID userId = UUID.randomUUID();
+    private Session stored;
+
+    @BeforeEach
+    void setUp() {
+        // A one-row sessions table: save assigns the id, findByIdForUpdate hands back the same entity
+        when(sessionRepository.save(any(Session.class))).thenAnswer(invocation -> {
+            Session session = invocation.getArgument(0);
+            if (session.getId() == null) {
+                session.setId(UUID.randomUUID());
+            }
+            stored = session;
+            return session;
+        });
+        when(sessionRepository.findByIdForUpdate(any(UUID.class)))
+                .thenAnswer(invocation -> Optional.ofNullable(stored).filter(s -> s.getId().equals(invocation.getArgument(0))));
+    }
+
+    @Test
+    void refreshRotatesTokens() {
+        TokenResponse login = sessionService.createSession(AppConstants.SESSION_USER_TYPE_USER, userId);
+        String firstRefreshTokenId = stored.getRefreshToken();
+
+        TokenResponse refreshed = sessionService.refresh(login.getRefreshToken());
+
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(stored.getRefreshToken()).isNotEqualTo(firstRefreshTokenId);
+        assertThat(stored.getRevokedAt()).isNull();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void rotatedRefreshTokenPresentedAgainRevokesSession() {
+        TokenResponse login = sessionService.createSession(AppConstants.SESSION_USER_TYPE_USER, userId);
+        TokenResponse refreshed = sessionService.refresh(login.getRefreshToken());
+
+        assertThatThrownBy(() -> sessionService.refresh(login.getRefreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+
+        assertThat(stored.getRevokedAt()).isNotNull();
+        verify(sessionRepository).saveAll(List.of(stored));
+        ArgumentCaptor<SessionsRevokedEvent> event = ArgumentCaptor.forClass(SessionsRevokedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getSessionIds()).containsExactly(stored.getId());
+
+        // The legitimate holder's current token dies with the session
+        assertThatThrownBy(() -> sessionService.refresh(refreshed.getRefreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void accessTokenCannotBeUsedToRefresh() {
+        TokenResponse login = sessionService.createSession(AppConstants.SESSION_USER_TYPE_USER, userId);
+
+        assertThatThrownBy(() -> sessionService.refresh(login.getAccessToken()))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(stored.getRevokedAt()).isNull();
+    }
+
+    @Test
+    void logoutRevokesSession() {
+        TokenResponse login = sessionService.createSession(AppConstants.SESSION_USER_TYPE_USER, userId);
+
+        sessionService.logout(login.getRefreshToken());
+
+        assertThat(stored.getRevokedAt()).isNotNull();
+        assertThatThrownBy(() -> sessionService.refresh(login.getRefreshToken()))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+}
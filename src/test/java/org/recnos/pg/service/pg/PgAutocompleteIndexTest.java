@@ -0,0 +1,90 @@
+package org.recnos.pg.service.pg;
+
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.model.dto.response.pg.AutocompleteSuggestion;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.repository.PopularCityRepository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PgAutocompleteIndexTest {
+
+    private final PgRepository pgRepository = mock(PgRepository.class);
+    private final PopularCityRepository popularCityRepository = mock(PopularCityRepository.class);
+    private final PgAutocompleteIndex index = new PgAutocompleteIndex(pgRepository, popularCityRepository);
+
+    @Test
+    void suggestsEveryWordOfATerm() {
+        UUID pgId = UUID.randomUUID();
+        when(pgRepository.findAutocompleteSources()).thenReturn(List.of(new Source(pgId, "Sunrise Comfort PG", "Pune")));
+        index.rebuild();
+
+        assertThat(texts(index.suggest("comf", 10))).containsExactly("Sunrise Comfort PG");
+        assertThat(texts(index.suggest("pune", 10))).containsExactly("Pune");
+        // One typo is tolerated from three characters on
+        assertThat(texts(index.suggest("sunirse", 10))).containsExactly("Sunrise Comfort PG");
+    }
+
+    @Test
+    void changesDuringRebuildSurviveTheSwap() throws Exception {
+        UUID removedMidRebuild = UUID.randomUUID();
+        UUID approvedMidRebuild = UUID.randomUUID();
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        // The snapshot is read before both changes commit
+        when(pgRepository.findAutocompleteSources()).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertThat(releaseQuery.await(10, TimeUnit.SECONDS)).isTrue();
+            return List.of(new Source(removedMidRebuild, "Greenview Residency", "Pune"));
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(queryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        index.remove(removedMidRebuild);
+        index.index(approvedMidRebuild, "Lakeside Stay", "lakeside-stay", "Pune", null);
+        releaseQuery.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertThat(index.suggest("greenview", 10)).isEmpty();
+        assertThat(index.suggest("lakeside", 10))
+                .extracting(AutocompleteSuggestion::getPgId)
+                .containsExactly(approvedMidRebuild);
+    }
+
+    // Helper methods
+    private static List<String> texts(List<AutocompleteSuggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestion::getText).toList();
+    }
+
+    private record Source(UUID id, String name, String city) implements PgRepository.AutocompleteSource {
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSlug() {
+            return name.toLowerCase().replace(' ', '-');
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getLandmark() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.recnos.pg.service.pg;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.model.dto.request.pg.PgFilterRequest;
+import org.recnos.pg.repository.PgAmenityRepository;
+import org.recnos.pg.repository.PgFacetRepository;
+import org.recnos.pg.repository.PgRepository;
+import org.recnos.pg.repository.PgRoomRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PgFilterIndexTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final PgRepository pgRepository = mock(PgRepository.class);
+    private final PgRoomRepository pgRoomRepository = mock(PgRoomRepository.class);
+    private final PgAmenityRepository pgAmenityRepository = mock(PgAmenityRepository.class);
+    private final PgFilterIndex index = new PgFilterIndex(pgRepository, pgRoomRepository, pgAmenityRepository);
+
+    private final List<PgRepository.FilterSource> sources = new ArrayList<>();
+    private final List<PgRoomRepository.RoomSummary> rooms = new ArrayList<>();
+    private final List<PgAmenityRepository.AmenityLink> amenityLinks = new ArrayList<>();
+
+    private final UUID wifi = UUID.randomUUID();
+
+    private UUID bangaloreMale;
+    private UUID bangaloreFemale;
+    private UUID puneMale;
+
+    @BeforeEach
+    void setUp() {
+        bangaloreMale = addPg("Bangalore", "male", NOW.minusSeconds(10));
+        addRoom(bangaloreMale, "8000", 2);
+        addRoom(bangaloreMale, "15000", 0);
+        amenityLinks.add(new Link(bangaloreMale, wifi));
+
+        bangaloreFemale = addPg("Bangalore", "female", NOW.minusSeconds(20));
+        addRoom(bangaloreFemale, "12000", 1);
+
+        puneMale = addPg("Pune", "male", NOW.minusSeconds(30));
+        addRoom(puneMale, "6000", 3);
+        amenityLinks.add(new Link(puneMale, wifi));
+
+        when(pgRepository.findFilterSources()).thenReturn(sources);
+        when(pgRoomRepository.findAllRoomSummaries()).thenReturn(rooms);
+        when(pgAmenityRepository.findAllAmenityLinks()).thenReturn(amenityLinks);
+        index.rebuild();
+    }
+
+    @Test
+    void intersectsAttributeBitmaps() {
+        assertThat(ids(PgFilterRequest.builder().city("Bangalore").build()))
+                .containsExactly(bangaloreMale, bangaloreFemale);
+        assertThat(ids(PgFilterRequest.builder().city("Bangalore").genderType("male").build()))
+                .containsExactly(bangaloreMale);
+        assertThat(ids(PgFilterRequest.builder().amenityIds(List.of(wifi)).build()))
+                .containsExactly(bangaloreMale, puneMale);
+    }
+
+    @Test
+    void unknownValueMatchesNothing() {
+        assertThat(ids(PgFilterRequest.builder().city("Chennai").build())).isEmpty();
+    }
+
+    @Test
+    void singleRoomMustSatisfyPriceAndBeds() {
+        // bangaloreMale has a room in range (15000) with no beds and a room with beds (8000) out of range
+        PgFilterRequest filter = PgFilterRequest.builder()
+                .minPrice(new BigDecimal("10000"))
+                .maxPrice(new BigDecimal("20000"))
+                .minAvailableBeds(1)
+                .build();
+
+        assertThat(ids(filter)).containsExactly(bangaloreFemale);
+    }
+
+    @Test
+    void outOfRangePriceBoundsSaturate() {
+        PgFilterRequest huge = PgFilterRequest.builder().maxPrice(new BigDecimal("1e20")).build();
+        PgFilterRequest negative = PgFilterRequest.builder().minPrice(new BigDecimal("-5")).build();
+
+        assertThat(ids(huge)).containsExactly(bangaloreMale, bangaloreFemale, puneMale);
+        assertThat(ids(negative)).containsExactly(bangaloreMale, bangaloreFemale, puneMale);
+    }
+
+    @Test
+    void pagesInListingOrderWithCursor() {
+        PgFilterRequest all = new PgFilterRequest();
+
+        PgFilterIndex.Result first = index.query(all, null, null, 2, false);
+        assertThat(first.ids()).containsExactly(bangaloreMale, bangaloreFemale);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(first.total()).isEqualTo(3);
+
+        PgFilterIndex.Result second = index.query(all, first.lastCreatedAt(), first.ids().get(1), 2, false);
+        assertThat(second.ids()).containsExactly(puneMale);
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    void countsFacetsWithinMatches() {
+        PgFilterIndex.Result result = index.query(PgFilterRequest.builder().genderType("male").build(), null, null, 10, true);
+
+        assertThat(result.facets().get(PgFacetRepository.FACET_GENDER_TYPE)).containsExactly(Map.entry("male", 2L));
+        assertThat(result.facets().get(PgFacetRepository.FACET_AMENITY)).containsEntry(wifi.toString(), 2L);
+    }
+
+    @Test
+    void refreshDropsPgThatIsNoLongerApproved() {
+        when(pgRepository.findFilterSourceById(puneMale)).thenReturn(Optional.empty());
+
+        index.refresh(puneMale);
+
+        assertThat(ids(new PgFilterRequest())).containsExactly(bangaloreMale, bangaloreFemale);
+        assertThat(ids(PgFilterRequest.builder().amenityIds(List.of(wifi)).build())).containsExactly(bangaloreMale);
+    }
+
+    @Test
+    void reusedDocIdCarriesNoBitsOfTheRemovedPg() {
+        index.remove(bangaloreMale);
+
+        UUID chennai = UUID.randomUUID();
+        Source source = new Source(chennai, "Chennai", "female", NOW);
+        when(pgRepository.findFilterSourceById(chennai)).thenReturn(Optional.of(source));
+        when(pgRoomRepository.findRoomSummariesByPgId(chennai)).thenReturn(List.of(new Room(chennai, new BigDecimal("5000"), 1)));
+        when(pgAmenityRepository.findAmenityIdsByPgId(chennai)).thenReturn(List.of());
+        index.refresh(chennai);
+
+        assertThat(ids(PgFilterRequest.builder().city("Bangalore").build())).containsExactly(bangaloreFemale);
+        assertThat(ids(PgFilterRequest.builder().amenityIds(List.of(wifi)).build())).containsExactly(puneMale);
+        assertThat(ids(PgFilterRequest.builder().city("Chennai").build())).containsExactly(chennai);
+    }
+
+    @Test
+    void changesDuringRebuildSurviveTheSwap() throws Exception {
+        UUID chennai = UUID.randomUUID();
+        when(pgRepository.findFilterSourceById(chennai)).thenReturn(Optional.of(new Source(chennai, "Chennai", "female", NOW)));
+        when(pgRoomRepository.findRoomSummariesByPgId(chennai)).thenReturn(List.of());
+        when(pgAmenityRepository.findAmenityIdsByPgId(chennai)).thenReturn(List.of());
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        // The snapshot is read before the approval and the deletion commit
+        when(pgRepository.findFilterSources()).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertThat(releaseQuery.await(10, TimeUnit.SECONDS)).isTrue();
+            return sources;
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(queryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        index.refresh(chennai);
+        index.remove(puneMale);
+        releaseQuery.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertThat(ids(new PgFilterRequest())).containsExactly(chennai, bangaloreMale, bangaloreFemale);
+    }
+
+    // Helper methods
+    private List<UUID> ids(PgFilterRequest filter) {
+        return index.query(filter, null, null, 10, false).ids();
+    }
+
+    private UUID addPg(String city, String genderType, Instant createdAt) {
+        UUID id = UUID.randomUUID();
+        sources.add(new Source(id, city, genderType, createdAt));
+        return id;
+    }
+
+    private void addRoom(UUID pgId, String price, int availableBeds) {
+        rooms.add(new Room(pgId, new BigDecimal(price), availableBeds));
+    }
+
+    private record Source(UUID id, String city, String genderType, Instant createdAt) implements PgRepository.FilterSource {
+        public UUID getId() {
+            return id;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getState() {
+            return "Karnataka";
+        }
+
+        public String getGenderType() {
+            return genderType;
+        }
+
+        public String getOccupancyType() {
+            return null;
+        }
+
+        public String getFurnishingType() {
+            return null;
+        }
+
+        public Boolean getFoodAvailable() {
+            return null;
+        }
+
+        public String getFoodType() {
+            return null;
+        }
+
+        public BigDecimal getMinPrice() {
+            return null;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    private record Room(UUID pgId, BigDecimal price, Integer beds) implements PgRoomRepository.RoomSummary {
+        public UUID getPgId() {
+            return pgId;
+        }
+
+        public BigDecimal getPricePerMonth() {
+            return price;
+        }
+
+        public Integer getAvailableBeds() {
+            return beds;
+        }
+    }
+
+    private record Link(UUID pgId, UUID amenityId) implements PgAmenityRepository.AmenityLink {
+        public UUID getPgId() {
+            return pgId;
+        }
+
+        public UUID getAmenityId() {
+            return amenityId;
+        }
+    }
+}
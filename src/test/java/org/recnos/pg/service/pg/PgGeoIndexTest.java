@@ -0,0 +1,91 @@
+package org.recnos.pg.service.pg;
+
+import org.junit.jupiter.api.Test;
+import org.recnos.pg.model.dto.response.pg.MapMarker;
+import org.recnos.pg.repository.PgRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PgGeoIndexTest {
+
+    private static final int STREET_ZOOM = 20;
+
+    private final PgRepository pgRepository = mock(PgRepository.class);
+    private final PgGeoIndex index = new PgGeoIndex(pgRepository);
+
+    @Test
+    void returnsPointsInsideViewportOnly() {
+        UUID koramangala = UUID.randomUUID();
+        UUID hinjewadi = UUID.randomUUID();
+        when(pgRepository.findGeoSources()).thenReturn(List.of(
+                new Source(koramangala, "12.9352", "77.6245"),
+                new Source(hinjewadi, "18.5913", "73.7389")));
+        index.rebuild();
+
+        assertThat(pgIds(index.query(12.9, 77.6, 13.0, 77.7, STREET_ZOOM, null))).containsExactly(koramangala);
+    }
+
+    @Test
+    void changesDuringRebuildSurviveTheSwap() throws Exception {
+        UUID removedMidRebuild = UUID.randomUUID();
+        UUID movedMidRebuild = UUID.randomUUID();
+
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        // The snapshot is read before both changes commit
+        when(pgRepository.findGeoSources()).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertThat(releaseQuery.await(10, TimeUnit.SECONDS)).isTrue();
+            return List.of(
+                    new Source(removedMidRebuild, "12.9352", "77.6245"),
+                    new Source(movedMidRebuild, "18.5913", "73.7389"));
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(queryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        index.remove(removedMidRebuild);
+        index.index(new Source(movedMidRebuild, "12.9360", "77.6250"));
+        releaseQuery.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertThat(pgIds(index.query(12.9, 77.6, 13.0, 77.7, STREET_ZOOM, null))).containsExactly(movedMidRebuild);
+        assertThat(index.query(18.5, 73.7, 18.7, 73.8, STREET_ZOOM, null)).isEmpty();
+    }
+
+    // Helper methods
+    private static List<UUID> pgIds(List<MapMarker> markers) {
+        return markers.stream().map(MapMarker::getPgId).toList();
+    }
+
+    private record Source(UUID id, String latitude, String longitude) implements PgRepository.GeoSource {
+        public UUID getId() {
+            return id;
+        }
+
+        public BigDecimal getLatitude() {
+            return new BigDecimal(latitude);
+        }
+
+        public BigDecimal getLongitude() {
+            return new BigDecimal(longitude);
+        }
+
+        public BigDecimal getMinPrice() {
+            return new BigDecimal("8000");
+        }
+
+        public String getGenderType() {
+            return "male";
+        }
+    }
+}
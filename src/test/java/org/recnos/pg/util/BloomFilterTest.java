@@ -0,0 +1,80 @@
+package org.recnos.pg.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<UUID> added = randomIds(10_000);
+        added.forEach(filter::add);
+
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfigured() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        randomIds(10_000).forEach(filter::add);
+
+        long falsePositives = randomIds(100_000).stream().filter(filter::mightContain).count();
+
+        // 1% expected; allow generous slack so the test is not flaky
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(randomIds(1_000)).noneMatch(filter::mightContain);
+    }
+
+    @Test
+    void concurrentAddsAreAllVisible() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = randomIds(10_000);
+                    ids.forEach(filter::add);
+                    return ids;
+                }));
+            }
+            for (Future<List<UUID>> future : futures) {
+                assertThat(future.get()).allMatch(filter::mightContain);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Helper methods
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
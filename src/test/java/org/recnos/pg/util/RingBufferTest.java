@@ -0,0 +1,136 @@
+package org.recnos.pg.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new RingBuffer<>(2).capacity()).isEqualTo(2);
+        assertThat(new RingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new RingBuffer<>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsWhenFullAndReturnsNullWhenEmpty() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        assertThat(buffer.poll()).isNull();
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void keepsFifoOrderAcrossWraparound() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+
+        // Many laps with the buffer partially filled so head and tail straddle the array end
+        for (int lap = 0; lap < 100; lap++) {
+            while (buffer.offer(next)) {
+                next++;
+            }
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.poll()).isEqualTo(expected++);
+            }
+        }
+
+        List<Integer> rest = new ArrayList<>();
+        assertThat(buffer.drainTo(rest, 10)).isEqualTo(next - expected);
+        assertThat(rest).first().isEqualTo(expected);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void drainToStopsAtMaxElements() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 4)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        // Small buffer keeps it full most of the time; retry until accepted
+                        while (!buffer.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            BitSet seen = new BitSet(producers * perProducer);
+            int[] lastPerProducer = new int[producers];
+            Arrays.fill(lastPerProducer, -1);
+            int received = 0;
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < producers * perProducer) {
+                assertThat(System.nanoTime()).as("consumer timed out after %d elements", received).isLessThan(deadline);
+                Integer value = buffer.poll();
+                if (value == null) {
+                    Thread.yield();
+                    continue;
+                }
+                assertThat(seen.get(value)).as("duplicate %d", value).isFalse();
+                seen.set(value);
+                // Each producer's elements come out in the order it offered them
+                int producer = value / perProducer;
+                assertThat(value).isGreaterThan(lastPerProducer[producer]);
+                lastPerProducer[producer] = value;
+                received++;
+            }
+
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            assertThat(seen.cardinality()).isEqualTo(producers * perProducer);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}